@@ -5,7 +5,9 @@ import main001.server.domain.user.service.UserService;
 import main001.server.security.filter.JwtAuthenticationFilter;
 import main001.server.security.filter.JwtVerificationFilter;
 import main001.server.security.handler.*;
-import main001.server.security.jwt.JwtTokenizer;
+import main001.server.security.jwt.TokenBlacklist;
+import main001.server.security.jwt.VerifiedTokenCache;
+import main001.server.security.service.PasswordHashingExecutor;
 import main001.server.security.service.SecurityService;
 import main001.server.security.utils.CustomAuthorityUtils;
 import org.springframework.context.annotation.Bean;
@@ -28,10 +30,12 @@ import static org.springframework.security.config.Customizer.withDefaults;
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfiguration {
-    private final JwtTokenizer jwtTokenizer;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklist tokenBlacklist;
     private final CustomAuthorityUtils authorityUtils;
     private final UserService userService;
     private final SecurityService securityService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -53,9 +57,12 @@ public class SecurityConfiguration {
                 .apply(new OAuth2FilterConfigurer())
                 .and()
                 .logout().logoutSuccessUrl("/")
+                .addLogoutHandler(new JwtLogoutHandler(verifiedTokenCache, tokenBlacklist, securityService))
                 .and()
                 .authorizeHttpRequests(authorize -> authorize
                         .antMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // METRICS
+                        .antMatchers("/actuator/metrics/**").hasRole("ADMIN")
                         // USER
                         .antMatchers(HttpMethod.POST, "/users/login/**", "/users/signup/**").permitAll() // 로그인 및 회원 가입 모두 접근 가능
                         .antMatchers(HttpMethod.PATCH, "/users/**").hasAnyRole("USER", "ADMIN")
@@ -94,7 +101,7 @@ public class SecurityConfiguration {
 
         @Override
         public void configure(HttpSecurity builder) throws Exception {
-            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils);
+            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(verifiedTokenCache, tokenBlacklist);
 
             builder.addFilterAfter(jwtVerificationFilter, OAuth2LoginAuthenticationFilter.class);
         }
@@ -106,12 +113,12 @@ public class SecurityConfiguration {
         public void configure(HttpSecurity builder) throws Exception {
             AuthenticationManager authenticationManager = builder.getSharedObject(AuthenticationManager.class);
 
-            JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(authenticationManager, securityService);
+            JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(authenticationManager, securityService, passwordHashingExecutor);
             jwtAuthenticationFilter.setFilterProcessesUrl("/users/login");
             jwtAuthenticationFilter.setAuthenticationSuccessHandler(new MemberAuthenticationSuccessHandler());
             jwtAuthenticationFilter.setAuthenticationFailureHandler(new MemberAuthenticationFailureHandler());
 
-            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils);
+            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(verifiedTokenCache, tokenBlacklist);
 
 
             builder
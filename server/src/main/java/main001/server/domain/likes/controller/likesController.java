@@ -11,11 +11,6 @@ import main001.server.exception.ExceptionCode;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
-
-import javax.servlet.http.HttpServletRequest;
-import java.util.Objects;
 
 @RestController
 @RequestMapping("/portfolios/likes")
@@ -28,10 +23,7 @@ public class likesController {
     public ResponseEntity<Void> like(
             @PathVariable("portfolio-id") Long portfolioId) {
 
-        HttpServletRequest request = ((ServletRequestAttributes) Objects.requireNonNull(RequestContextHolder.getRequestAttributes())).getRequest();
-        String token = request.getHeader("Authorization");
-
-        likesService.like(token,portfolioId);
+        likesService.like(portfolioId);
 
         return ResponseEntity.status(HttpStatus.OK).build();
     }
@@ -40,10 +32,7 @@ public class likesController {
     public ResponseEntity<Void> unlike(
             @PathVariable("portfolio-id") Long portfolioId) {
 
-        HttpServletRequest request = ((ServletRequestAttributes) Objects.requireNonNull(RequestContextHolder.getRequestAttributes())).getRequest();
-        String token = request.getHeader("Authorization");
-
-        likesService.unlike(token,portfolioId);
+        likesService.unlike(portfolioId);
 
         return ResponseEntity.status(HttpStatus.OK).build();
     }
@@ -10,6 +10,7 @@ import javax.persistence.*;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_portfolio_likes_user_portfolio", columnNames = {"userId", "portfolioId"}))
 public class PortfolioLikes {
 
     @Id
@@ -2,10 +2,16 @@ package main001.server.domain.likes.repository;
 
 import main001.server.domain.likes.entity.PortfolioLikes;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LikesRepository extends JpaRepository<PortfolioLikes, Long> {
 
     Optional<PortfolioLikes> findByUserUserIdAndPortfolioPortfolioId(Long userId, Long portfolioId);
+
+    @Query("SELECT l.portfolio.portfolioId FROM PortfolioLikes l WHERE l.user.userId = :userId")
+    List<Long> findPortfolioIdsByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,99 @@
+package main001.server.domain.likes.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import main001.server.domain.likes.repository.LikesRepository;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 좋아요한 portfolioId 비트맵 캐시
+ * 처음 조회할 때 DB에서 불러오고, 최근 사용한 유저 수만큼만 유지한다.
+ * 좋아요/취소 시 비트맵을 copy-on-write로 교체하여 조회 시 잠금이 필요 없다.
+ */
+@Component
+public class LikedPortfolioCache {
+
+    private final LikesRepository likesRepository;
+    private final LoadingCache<Long, RoaringBitmap> cache;
+
+    public LikedPortfolioCache(LikesRepository likesRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${likes.membership-cache.max-users:100000}") long maxUsers) {
+        this.likesRepository = likesRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .recordStats()
+                .build(this::load);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "likes.membership");
+        Gauge.builder("likes.membership.memory", this, LikedPortfolioCache::memoryBytes)
+                .description("좋아요 비트맵 캐시 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean contains(Long userId, Long portfolioId) {
+        return cache.get(userId).contains(toInt(portfolioId));
+    }
+
+    /**
+     * portfolioIds 중 좋아요한 portfolioId 목록
+     */
+    public Set<Long> filter(Long userId, Collection<Long> portfolioIds) {
+        RoaringBitmap liked = cache.get(userId);
+
+        return portfolioIds.stream()
+                .filter(portfolioId -> liked.contains(toInt(portfolioId)))
+                .collect(Collectors.toSet());
+    }
+
+    public void add(Long userId, Long portfolioId) {
+        cache.asMap().computeIfPresent(userId, (id, liked) -> {
+            RoaringBitmap copy = liked.clone();
+            copy.add(toInt(portfolioId));
+            return copy;
+        });
+    }
+
+    public void remove(Long userId, Long portfolioId) {
+        cache.asMap().computeIfPresent(userId, (id, liked) -> {
+            RoaringBitmap copy = liked.clone();
+            copy.remove(toInt(portfolioId));
+            return copy;
+        });
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    private RoaringBitmap load(Long userId) {
+        RoaringBitmap liked = new RoaringBitmap();
+        likesRepository.findPortfolioIdsByUserId(userId).forEach(portfolioId -> liked.add(toInt(portfolioId)));
+        liked.runOptimize();
+
+        return liked;
+    }
+
+    private double memoryBytes() {
+        return cache.asMap().values().stream()
+                .mapToLong(RoaringBitmap::getLongSizeInBytes)
+                .sum();
+    }
+
+    /**
+     * RoaringBitmap은 32bit 정수 기반
+     */
+    private int toInt(Long portfolioId) {
+        return Math.toIntExact(portfolioId);
+    }
+}
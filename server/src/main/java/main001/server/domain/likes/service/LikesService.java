@@ -1,77 +1,70 @@
 package main001.server.domain.likes.service;
 
 import lombok.RequiredArgsConstructor;
-import main001.server.domain.likes.entity.PortfolioLikes;
-import main001.server.domain.likes.repository.LikesRepository;
-import main001.server.domain.portfolio.entity.Portfolio;
 import main001.server.domain.portfolio.service.PortfolioService;
-import main001.server.domain.user.entity.User;
-import main001.server.domain.user.service.UserService;
+import main001.server.domain.utils.CurrentUserIdFinder;
 import main001.server.exception.BusinessLogicException;
 import main001.server.exception.ExceptionCode;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
 
+/**
+ * 좋아요/취소는 LikesWriteBuffer에 기록 후 일괄 반영
+ */
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class LikesService {
 
-    private final LikesRepository likesRepository;
-    private final UserService userService;
     private final PortfolioService portfolioService;
-
-    public boolean findExistLikes(String token, Long portfolioId) {
-        Long userId = userService.findByToken(token);
-        Optional<PortfolioLikes> optional = likesRepository.findByUserUserIdAndPortfolioPortfolioId(userId, portfolioId);
-
-        return optional.isPresent();
-    }
-
-    public void like(String token, Long portfolioId) {
-        if(token == null){
-            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_EXIST);
-        } else if(findExistLikes(token, portfolioId)) {
-            throw new BusinessLogicException(ExceptionCode.LIKES_EXIST);
+    private final LikesWriteBuffer likesWriteBuffer;
+
+    /**
+     * 좋아요 여부는 반영 대기 중인 상태와 LikedPortfolioCache에서 DB 조회 없이 확인
+     */
+    public boolean findExistLikes(Long userId, Long portfolioId) {
+        if(userId == null) {
+            return false;
         }
-        Long userId = userService.findByToken(token);
-
-        User user = findUser(userId);
-
-        Portfolio portfolio = findPortfolio(portfolioId);
 
-        PortfolioLikes newLikes = new PortfolioLikes();
-
-        newLikes.setUser(user);
-        newLikes.setPortfolio(portfolio);
-
-        portfolioService.updateLikes(portfolioId, 1);
+        return likesWriteBuffer.isLiked(userId, portfolioId);
     }
 
-    public void unlike(String token, Long portfolioId) {
-        if(token == null){
-            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_EXIST);
-        } else if(!findExistLikes(token, portfolioId)) {
-            throw new BusinessLogicException(ExceptionCode.LIKES_NOT_EXIST);
+    /**
+     * 목록 조회 시 portfolioIds 중 좋아요한 포트폴리오를 한 번에 조회
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedPortfolioIds(Long userId, Collection<Long> portfolioIds) {
+        if(userId == null || portfolioIds.isEmpty()) {
+            return Collections.emptySet();
         }
 
-        Long userId = userService.findByToken(token);
+        return likesWriteBuffer.filterLiked(userId, portfolioIds);
+    }
 
-        portfolioService.updateLikes(portfolioId, -1);
+    public void like(Long portfolioId) {
+        Long userId = getCurrentUserId();
 
-        PortfolioLikes portfolioLikes =
-                likesRepository.findByUserUserIdAndPortfolioPortfolioId(userId, portfolioId).get();
+        portfolioService.verifyExistPortfolio(portfolioId);
 
-        likesRepository.delete(portfolioLikes);
+        likesWriteBuffer.like(userId, portfolioId);
     }
 
-    private Portfolio findPortfolio(Long portfolioId) {
-        return portfolioService.findVerifiedPortfolio(portfolioId);
+    public void unlike(Long portfolioId) {
+        Long userId = getCurrentUserId();
+
+        likesWriteBuffer.unlike(userId, portfolioId);
     }
 
-    private User findUser(Long userId) {
-        return userService.findVerifiedUser(userId);
+    private Long getCurrentUserId() {
+        Long userId = CurrentUserIdFinder.getCurrentUserId();
+        if(userId == null){
+            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_EXIST);
+        }
+        return userId;
     }
 }
@@ -0,0 +1,213 @@
+package main001.server.domain.likes.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import main001.server.domain.portfolio.index.PortfolioSortIndex;
+import main001.server.domain.portfolio.service.PortfolioDetailCache;
+import main001.server.domain.portfolio.service.PortfolioTrendingScoreUpdater;
+import main001.server.exception.BusinessLogicException;
+import main001.server.exception.ExceptionCode;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요/취소 write-behind 버퍼
+ * (유저, 포트폴리오)별 마지막 요청 상태만 메모리에 기록하여 반영 주기 안의 좋아요/취소 반복은 상쇄되고,
+ * 일정 주기와 서버 종료 시 DB 상태와 달라진 것만 batch INSERT/DELETE와 좋아요 수 batch UPDATE로 반영한다.
+ * 좋아요 여부 조회는 반영 전 상태를 우선 확인한다.
+ */
+@Slf4j
+@Component
+public class LikesWriteBuffer {
+    /**
+     * 없을 때만 INSERT : (user_id, portfolio_id) unique 제약으로 중복 행은 생기지 않는다.
+     */
+    private static final String INSERT_SQL = "INSERT INTO portfolio_likes (user_id, portfolio_id) " +
+            "SELECT u.user_id, p.portfolio_id FROM users u, portfolio p WHERE u.user_id = ? AND p.portfolio_id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM portfolio_likes l WHERE l.user_id = u.user_id AND l.portfolio_id = p.portfolio_id)";
+    private static final String DELETE_SQL = "DELETE FROM portfolio_likes WHERE user_id = ? AND portfolio_id = ?";
+    private static final String COUNT_SQL = "UPDATE portfolio SET likes_count = likes_count + ? WHERE portfolio_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LikedPortfolioCache likedPortfolioCache;
+    private final PortfolioDetailCache detailCache;
+    private final PortfolioTrendingScoreUpdater trendingScoreUpdater;
+    private final PortfolioSortIndex sortIndex;
+    private final Timer flushTimer;
+    private final Map<LikeKey, Boolean> pendingLikes = new ConcurrentHashMap<>();
+
+    public LikesWriteBuffer(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            LikedPortfolioCache likedPortfolioCache,
+                            PortfolioDetailCache detailCache,
+                            PortfolioTrendingScoreUpdater trendingScoreUpdater,
+                            PortfolioSortIndex sortIndex,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.likedPortfolioCache = likedPortfolioCache;
+        this.detailCache = detailCache;
+        this.trendingScoreUpdater = trendingScoreUpdater;
+        this.sortIndex = sortIndex;
+        this.flushTimer = Timer.builder("likes.flush")
+                .description("좋아요 batch 반영 소요 시간")
+                .register(meterRegistry);
+
+        Gauge.builder("likes.pending", pendingLikes, Map::size)
+                .description("반영 대기 중인 좋아요/취소 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isLiked(Long userId, Long portfolioId) {
+        Boolean pending = pendingLikes.get(new LikeKey(userId, portfolioId));
+
+        return pending != null ? pending : likedPortfolioCache.contains(userId, portfolioId);
+    }
+
+    /**
+     * portfolioIds 중 좋아요한 portfolioId 목록
+     */
+    public Set<Long> filterLiked(Long userId, Collection<Long> portfolioIds) {
+        Set<Long> liked = new HashSet<>(likedPortfolioCache.filter(userId, portfolioIds));
+
+        for (Long portfolioId : portfolioIds) {
+            Boolean pending = pendingLikes.get(new LikeKey(userId, portfolioId));
+            if (Boolean.TRUE.equals(pending)) {
+                liked.add(portfolioId);
+            } else if (Boolean.FALSE.equals(pending)) {
+                liked.remove(portfolioId);
+            }
+        }
+        return liked;
+    }
+
+    public void like(Long userId, Long portfolioId) {
+        change(userId, portfolioId, true, ExceptionCode.LIKES_EXIST);
+    }
+
+    public void unlike(Long userId, Long portfolioId) {
+        change(userId, portfolioId, false, ExceptionCode.LIKES_NOT_EXIST);
+    }
+
+    /**
+     * 좋아요 상태를 liked로 변경 : 이미 같은 상태이면 예외
+     */
+    private void change(Long userId, Long portfolioId, boolean liked, ExceptionCode conflict) {
+        pendingLikes.compute(new LikeKey(userId, portfolioId), (key, pending) -> {
+            boolean current = pending != null ? pending : likedPortfolioCache.contains(userId, portfolioId);
+            if (current == liked) {
+                throw new BusinessLogicException(conflict);
+            }
+            return liked;
+        });
+    }
+
+    /**
+     * DB 상태와 달라진 좋아요만 반영 : 실패 시 다음 주기에 다시 반영된다.
+     */
+    @Scheduled(fixedDelayString = "${likes.write-behind.flush-interval:1000}")
+    public synchronized void flush() {
+        Map<LikeKey, Boolean> snapshot = new HashMap<>(pendingLikes);
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        List<LikeKey> inserts = new ArrayList<>();
+        List<LikeKey> deletes = new ArrayList<>();
+        snapshot.forEach((key, liked) -> {
+            boolean persisted = likedPortfolioCache.contains(key.userId, key.portfolioId);
+            if (liked && !persisted) {
+                inserts.add(key);
+            } else if (!liked && persisted) {
+                deletes.add(key);
+            }
+        });
+
+        List<LikeKey> inserted = new ArrayList<>();
+        List<LikeKey> deleted = new ArrayList<>();
+        List<LikeKey> skipped = new ArrayList<>();
+        Map<Long, Integer> deltas = new HashMap<>();
+
+        Timer.Sample sample = Timer.start();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                collectApplied(inserts, jdbcTemplate.batchUpdate(INSERT_SQL, toArgs(inserts)), inserted, skipped);
+                collectApplied(deletes, jdbcTemplate.batchUpdate(DELETE_SQL, toArgs(deletes)), deleted, skipped);
+
+                inserted.forEach(key -> deltas.merge(key.portfolioId, 1, Integer::sum));
+                deleted.forEach(key -> deltas.merge(key.portfolioId, -1, Integer::sum));
+
+                List<Object[]> countArgs = deltas.entrySet().stream()
+                        .filter(entry -> entry.getValue() != 0)
+                        .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                        .collect(Collectors.toList());
+                jdbcTemplate.batchUpdate(COUNT_SQL, countArgs);
+            });
+        } catch (DataAccessException e) {
+            log.warn("# Failed to flush likes : {}", e.getMessage());
+            return;
+        } finally {
+            sample.stop(flushTimer);
+        }
+
+        inserted.forEach(key -> likedPortfolioCache.add(key.userId, key.portfolioId));
+        deleted.forEach(key -> likedPortfolioCache.remove(key.userId, key.portfolioId));
+        // 이미 반영되어 있었거나 삭제된 유저/포트폴리오 : 캐시를 DB 상태로 다시 불러온다.
+        skipped.forEach(key -> likedPortfolioCache.invalidate(key.userId));
+
+        // 반영 중 상태가 다시 바뀐 경우는 다음 주기에 반영
+        snapshot.forEach(pendingLikes::remove);
+
+        deltas.forEach((portfolioId, delta) -> {
+            detailCache.evict(portfolioId);
+            trendingScoreUpdater.markChanged(portfolioId);
+            sortIndex.addLikesCount(portfolioId, delta);
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<Object[]> toArgs(List<LikeKey> keys) {
+        return keys.stream()
+                .map(key -> new Object[]{key.userId, key.portfolioId})
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 실제로 상태가 바뀐 행과 바뀌지 않은 행을 구분 : 좋아요 수는 바뀐 행만큼만 증감한다.
+     */
+    private void collectApplied(List<LikeKey> keys, int[] updatedRows, List<LikeKey> applied, List<LikeKey> skipped) {
+        for (int i = 0; i < keys.size(); i++) {
+            if (updatedRows[i] > 0 || updatedRows[i] == Statement.SUCCESS_NO_INFO) {
+                applied.add(keys.get(i));
+            } else {
+                skipped.add(keys.get(i));
+            }
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class LikeKey {
+        private final Long userId;
+        private final Long portfolioId;
+    }
+}
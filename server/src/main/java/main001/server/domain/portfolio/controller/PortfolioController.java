@@ -6,7 +6,14 @@ import main001.server.domain.likes.service.LikesService;
 import main001.server.domain.portfolio.dto.PortfolioDto;
 import main001.server.domain.portfolio.entity.Portfolio;
 import main001.server.domain.portfolio.mapper.PortfolioMapper;
+import main001.server.domain.portfolio.repository.PortfolioSummary;
+import main001.server.domain.portfolio.service.PortfolioDetailCache;
 import main001.server.domain.portfolio.service.PortfolioService;
+import main001.server.domain.utils.CurrentUserIdFinder;
+import main001.server.domain.skill.response.SkillFacet;
+import main001.server.response.CursorResponseDto;
+import main001.server.response.FacetCursorResponseDto;
+import main001.server.response.FacetMultiResponseDto;
 import main001.server.response.MultiResponseDto;
 import main001.server.response.SingleResponseDto;
 import org.springframework.data.domain.Page;
@@ -14,18 +21,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import java.io.IOException;
 import java.net.URI;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/portfolios")
@@ -37,6 +42,7 @@ public class PortfolioController {
     private final PortfolioService portfolioService;
     private final PortfolioMapper mapper;
     private final LikesService likesService;
+    private final PortfolioDetailCache detailCache;
 
     @PostMapping
     public ResponseEntity postPortfolio(@Valid @RequestPart PortfolioDto.Post postDto,
@@ -82,20 +88,16 @@ public class PortfolioController {
     @GetMapping("/{portfolio-id}")
     public ResponseEntity getPortfolio(@PathVariable("portfolio-id") Long portfolioId) {
 
-        HttpServletRequest request = ((ServletRequestAttributes) Objects.requireNonNull(RequestContextHolder.getRequestAttributes())).getRequest();
-        String token = request.getHeader("Authorization");
+        PortfolioDto.Response responseDto = detailCache.get(portfolioId,
+                id -> mapper.portfolioToSharedResponseDto(portfolioService.findPortfolio(id)));
 
-        Portfolio portfolio = portfolioService.findPortfolio(portfolioId);
-        PortfolioDto.Response responseDto = mapper.portfolioToPortfolioResponseDto(portfolio);
-
-        if(token==null) {
-            responseDto.setLikes(false);
-        }
-        else {
-            boolean likes = likesService.findExistLikes(token, portfolioId);
-            responseDto.setLikes(likes);
+        Long currentUserId = CurrentUserIdFinder.getCurrentUserId();
+        if (currentUserId != null && currentUserId.equals(responseDto.getUserId())) {
+            responseDto.setAuth(true);
         }
 
+        responseDto.setLikes(likesService.findExistLikes(currentUserId, portfolioId));
+
         return new ResponseEntity<>(new SingleResponseDto<>(responseDto), HttpStatus.OK);
     }
 
@@ -104,13 +106,21 @@ public class PortfolioController {
             @PathVariable("user-id") Long userId,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "1") @Positive int page,
-            @RequestParam(defaultValue = "15") @Positive int size) {
-        Page<Portfolio> portfolios = portfolioService.getPortfoliosByUser(userId, sortBy, page - 1, size);
+            @RequestParam(defaultValue = "15") @Positive int size,
+            @RequestParam(required = false) String cursor) {
+        if(cursor != null) {
+            CursorResponseDto<PortfolioSummary> portfolios = portfolioService.getPortfoliosByUser(userId, sortBy, cursor, size);
+
+            return new ResponseEntity<>(
+                    new CursorResponseDto<>(toSummaryResponses(portfolios.getData()), portfolios.getNextCursor()), HttpStatus.OK);
+        }
+
+        Page<PortfolioSummary> portfolios = portfolioService.getPortfoliosByUser(userId, sortBy, page - 1, size);
 
-        List<Portfolio> content = portfolios.getContent();
+        List<PortfolioSummary> content = portfolios.getContent();
 
         return new ResponseEntity(
-                new MultiResponseDto<>(mapper.portfolioToPortfolioResponseDtos(content),portfolios), HttpStatus.OK);
+                new MultiResponseDto<>(toSummaryResponses(content),portfolios), HttpStatus.OK);
     }
 
     @GetMapping("/search")
@@ -119,15 +129,39 @@ public class PortfolioController {
             @RequestParam(defaultValue = "userName") String category,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "1") @Positive int page,
-            @RequestParam(defaultValue = "15") @Positive int size)  {
+            @RequestParam(defaultValue = "15") @Positive int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean facets)  {
+
+        if(cursor != null) {
+            CursorResponseDto<PortfolioSummary> portfolios =
+                    portfolioService.searchPortfolios(cursor, size, category, sortBy, value);
+            List<PortfolioDto.SummaryResponse> data = toSummaryResponses(portfolios.getData());
+
+            // facets는 첫 페이지에서만 계산
+            if(facets && cursor.isBlank()) {
+                List<SkillFacet> skillFacets = portfolioService.countSkillFacets(category, value);
+                return new ResponseEntity<>(
+                        new FacetCursorResponseDto<>(data, portfolios.getNextCursor(), skillFacets), HttpStatus.OK);
+            }
+
+            return new ResponseEntity<>(
+                    new CursorResponseDto<>(data, portfolios.getNextCursor()), HttpStatus.OK);
+        }
 
-        Page<Portfolio> portfoliosPage =
+        Page<PortfolioSummary> portfoliosPage =
                 portfolioService.searchPortfolios(page - 1, size, category, sortBy, value);
 
-        List<Portfolio> content = portfoliosPage.getContent();
+        List<PortfolioSummary> content = portfoliosPage.getContent();
+
+        if(facets) {
+            List<SkillFacet> skillFacets = portfolioService.countSkillFacets(category, value);
+            return new ResponseEntity<>(
+                    new FacetMultiResponseDto<>(toSummaryResponses(content), portfoliosPage, skillFacets), HttpStatus.OK);
+        }
 
         return new ResponseEntity<>(
-                new MultiResponseDto<>(mapper.portfolioToPortfolioResponseDtos(content),portfoliosPage),HttpStatus.OK);
+                new MultiResponseDto<>(toSummaryResponses(content),portfoliosPage),HttpStatus.OK);
     }
 
     @DeleteMapping("/{portfolio-id}")
@@ -136,4 +170,16 @@ public class PortfolioController {
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    /**
+     * 목록의 좋아요 여부는 한 번의 IN 쿼리로 조회
+     */
+    private List<PortfolioDto.SummaryResponse> toSummaryResponses(List<PortfolioSummary> summaries) {
+        List<Long> portfolioIds = summaries.stream()
+                .map(PortfolioSummary::getPortfolioId)
+                .collect(Collectors.toList());
+        Set<Long> likedPortfolioIds = likesService.findLikedPortfolioIds(CurrentUserIdFinder.getCurrentUserId(), portfolioIds);
+
+        return mapper.portfolioSummariesToSummaryResponses(summaries, likedPortfolioIds);
+    }
 }
@@ -0,0 +1,57 @@
+package main001.server.domain.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import main001.server.domain.portfolio.enums.PortfolioSortKey;
+import main001.server.domain.portfolio.repository.PortfolioSummary;
+import main001.server.exception.BusinessLogicException;
+import main001.server.exception.ExceptionCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션 위치 정보 : (정렬 기준 값, portfolioId)
+ * 클라이언트에는 Base64 문자열로 전달된다.
+ */
+@Getter
+@AllArgsConstructor
+public class PortfolioCursor {
+    private static final String DELIMITER = ",";
+
+    private final PortfolioSortKey sortKey;
+    private final Comparable<?> value;
+    private final Long portfolioId;
+
+    public static PortfolioCursor of(PortfolioSortKey sortKey, PortfolioSummary portfolio) {
+        return new PortfolioCursor(sortKey, sortKey.valueOf(portfolio), portfolio.getPortfolioId());
+    }
+
+    /**
+     * 빈 문자열은 첫 페이지를 의미하며 null을 반환
+     */
+    public static PortfolioCursor decode(String cursor, PortfolioSortKey sortKey) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            if (parts.length != 3 || !parts[0].equals(sortKey.getSortBy())) {
+                throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            }
+
+            return new PortfolioCursor(sortKey, sortKey.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey.getSortBy() + DELIMITER + value + DELIMITER + portfolioId;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -66,7 +66,7 @@ public class PortfolioDto {
     @Setter
     @AllArgsConstructor
     @NoArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class Response {
         private long portfolioId;
         private long userId;
@@ -86,4 +86,28 @@ public class PortfolioDto {
         private boolean isAuth;
         private boolean isLikes;
     }
+
+    /**
+     * 목록 조회 응답 : description, content 제외
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class SummaryResponse {
+        private long portfolioId;
+        private long userId;
+        private String name;
+        private String profileImg;
+        private String title;
+        private String representativeImgUrl;
+        private List<String> skills;
+        private int likesCount;
+        private int viewCount;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private boolean isAuth;
+        private boolean isLikes;
+    }
 }
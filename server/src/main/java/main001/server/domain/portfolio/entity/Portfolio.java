@@ -19,6 +19,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_portfolio_trending_score", columnList = "trendingScore"))
 public class Portfolio extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -45,6 +46,9 @@ public class Portfolio extends BaseTimeEntity {
     @Column(columnDefinition = "integer default 0", nullable = false)
     private int viewCount;
 
+    @Column(columnDefinition = "double default 0", nullable = false)
+    private double trendingScore; // 시간 감쇠가 적용된 인기 점수 (PortfolioTrendingScoreUpdater)
+
     @OneToOne(mappedBy = "portfolio", cascade = CascadeType.ALL)
     private RepresentativeAttachment thumbnail;
 
@@ -0,0 +1,56 @@
+package main001.server.domain.portfolio.enums;
+
+import lombok.Getter;
+import main001.server.domain.portfolio.repository.PortfolioSummary;
+import main001.server.exception.BusinessLogicException;
+import main001.server.exception.ExceptionCode;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 포트폴리오 목록 정렬 기준 (sortBy 파라미터 -> 엔티티 필드)
+ */
+public enum PortfolioSortKey {
+    CREATED_AT("createdAt", "createdAt", PortfolioSummary::getCreatedAt, LocalDateTime::parse),
+    VIEWS("views", "viewCount", PortfolioSummary::getViewCount, Integer::parseInt),
+    LIKES("likes", "likesCount", PortfolioSummary::getLikesCount, Integer::parseInt),
+    TRENDING("trending", "trendingScore", PortfolioSummary::getTrendingScore, Double::parseDouble);
+
+    @Getter
+    private final String sortBy;
+
+    @Getter
+    private final String property;
+
+    private final Function<PortfolioSummary, Comparable<?>> extractor;
+
+    private final Function<String, Comparable<?>> parser;
+
+    PortfolioSortKey(String sortBy,
+                     String property,
+                     Function<PortfolioSummary, Comparable<?>> extractor,
+                     Function<String, Comparable<?>> parser) {
+        this.sortBy = sortBy;
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public static PortfolioSortKey of(String sortBy) {
+        for (PortfolioSortKey sortKey : values()) {
+            if (sortKey.sortBy.equals(sortBy)) {
+                return sortKey;
+            }
+        }
+        throw new BusinessLogicException(ExceptionCode.SEARCH_CONDITION_MISMATCH);
+    }
+
+    public Comparable<?> valueOf(PortfolioSummary portfolio) {
+        return extractor.apply(portfolio);
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+}
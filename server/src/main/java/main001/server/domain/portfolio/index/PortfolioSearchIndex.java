@@ -0,0 +1,92 @@
+package main001.server.domain.portfolio.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import main001.server.domain.portfolio.entity.Portfolio;
+import main001.server.domain.portfolio.repository.PortfolioRepository;
+import main001.server.domain.portfolio.repository.PortfolioTitle;
+import main001.server.domain.utils.HangulUtils;
+import main001.server.domain.utils.NGramIndex;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 포트폴리오 제목 n-gram -> portfolioId 색인
+ * LIKE '%제목%'의 full scan을 대체하며, 한글 단어 중간의 부분 문자열도 LIKE와 같이 검색된다.
+ * 초성 검색용으로 제목의 초성 n-gram 색인도 함께 유지한다.
+ * 재구성은 새 색인을 만든 뒤 참조만 교체하고, 변경은 재구성과 겹치지 않도록 같은 잠금으로 직렬화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioSearchIndex {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final PortfolioRepository portfolioRepository;
+
+    private volatile NGramIndex<Long> titles = new NGramIndex<>();
+    private volatile NGramIndex<Long> titleChosungs = new NGramIndex<>();
+
+    /**
+     * 서버 시작 시 전체 포트폴리오 제목으로 색인을 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        NGramIndex<Long> rebuiltTitles = new NGramIndex<>();
+        NGramIndex<Long> rebuiltChosungs = new NGramIndex<>();
+
+        PageRequest pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("portfolioId"));
+        Slice<PortfolioTitle> slice;
+        do {
+            slice = portfolioRepository.findAllTitles(pageable);
+            slice.forEach(portfolio -> {
+                rebuiltTitles.put(portfolio.getPortfolioId(), normalize(portfolio.getTitle()));
+                rebuiltChosungs.put(portfolio.getPortfolioId(), HangulUtils.toChosung(portfolio.getTitle()));
+            });
+            pageable = pageable.next();
+        } while (slice.hasNext());
+
+        titles = rebuiltTitles;
+        titleChosungs = rebuiltChosungs;
+
+        log.info("# Portfolio search index rebuilt : {} portfolios, {} grams", rebuiltTitles.size(), rebuiltTitles.gramCount());
+    }
+
+    public void index(Portfolio portfolio) {
+        index(portfolio.getPortfolioId(), portfolio.getTitle());
+    }
+
+    public synchronized void index(Long portfolioId, String title) {
+        titles.put(portfolioId, normalize(title));
+        titleChosungs.put(portfolioId, HangulUtils.toChosung(title));
+    }
+
+    public synchronized void remove(Long portfolioId) {
+        titles.remove(portfolioId);
+        titleChosungs.remove(portfolioId);
+    }
+
+    /**
+     * 제목에 검색어가 포함된 포트폴리오 id 목록 조회 (대소문자 구분 없음)
+     */
+    public Set<Long> search(String value) {
+        return titles.search(normalize(value));
+    }
+
+    /**
+     * 제목의 초성에 query(초성)가 포함된 포트폴리오 id 목록 조회
+     */
+    public Set<Long> searchChosung(String value) {
+        return titleChosungs.search(HangulUtils.toChosung(value));
+    }
+
+    private String normalize(String title) {
+        return title == null ? "" : title.toLowerCase();
+    }
+}
@@ -0,0 +1,225 @@
+package main001.server.domain.portfolio.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import main001.server.domain.portfolio.entity.Portfolio;
+import main001.server.domain.portfolio.repository.PortfolioRepository;
+import main001.server.domain.portfolio.repository.PortfolioSkillName;
+import main001.server.domain.skill.entity.Skill;
+import main001.server.domain.skill.response.SkillFacet;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 기술(skillId) -> portfolioId 비트맵 색인
+ * 기술 조건 검색(AND/OR/NOT)과 기술별 포트폴리오 수(facet)를 DB 조회 없이 비트맵 연산으로 계산한다.
+ * 비트맵은 copy-on-write로 교체하므로 조회 시 잠금이 필요 없다.
+ * 재구성은 새 맵을 만든 뒤 참조만 교체하고, 변경은 재구성과 겹치지 않도록 같은 잠금으로 직렬화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioSkillIndex {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final PortfolioRepository portfolioRepository;
+
+    private volatile Map<String, RoaringBitmap> postings = new ConcurrentHashMap<>();
+    private volatile Map<Long, Set<String>> skillsByPortfolio = new ConcurrentHashMap<>();
+    private final Map<String, String> skillNames = new ConcurrentHashMap<>();
+    private volatile RoaringBitmap allPortfolios = new RoaringBitmap();
+
+    /**
+     * 서버 시작 시 전체 포트폴리오 기술로 색인을 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        RoaringBitmap all = new RoaringBitmap();
+        PageRequest pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("portfolioId"));
+        Slice<Long> ids;
+        do {
+            ids = portfolioRepository.findAllPortfolioIds(pageable);
+            ids.forEach(portfolioId -> all.add(toInt(portfolioId)));
+            pageable = pageable.next();
+        } while (ids.hasNext());
+
+        Map<String, RoaringBitmap> rebuilt = new ConcurrentHashMap<>();
+        Map<Long, Set<String>> skills = new ConcurrentHashMap<>();
+        pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("portfolioSkillId"));
+        Slice<PortfolioSkillName> slice;
+        do {
+            slice = portfolioRepository.findAllSkillNames(pageable);
+            slice.forEach(skill -> {
+                skillNames.put(skill.getSkillId(), skill.getSkillName());
+                rebuilt.computeIfAbsent(skill.getSkillId(), id -> new RoaringBitmap()).add(toInt(skill.getPortfolioId()));
+                skills.computeIfAbsent(skill.getPortfolioId(), id -> new HashSet<>()).add(skill.getSkillId());
+            });
+            pageable = pageable.next();
+        } while (slice.hasNext());
+
+        rebuilt.values().forEach(RoaringBitmap::runOptimize);
+        all.runOptimize();
+
+        postings = rebuilt;
+        skillsByPortfolio = skills;
+        allPortfolios = all;
+
+        log.info("# Portfolio skill index rebuilt : {} portfolios, {} skills", all.getCardinality(), rebuilt.size());
+    }
+
+    public void index(Portfolio portfolio) {
+        Map<String, String> skills = new HashMap<>();
+        portfolio.getSkills().forEach(portfolioSkill -> {
+            Skill skill = portfolioSkill.getSkill();
+            skills.put(skill.getSkillId(), skill.getName());
+        });
+
+        index(portfolio.getPortfolioId(), skills);
+    }
+
+    /**
+     * @param skills skillId -> 기술 이름
+     */
+    public synchronized void index(Long portfolioId, Map<String, String> skills) {
+        remove(portfolioId);
+
+        int id = toInt(portfolioId);
+        skills.forEach((skillId, name) -> {
+            skillNames.put(skillId, name);
+            postings.put(skillId, copyWith(postings.get(skillId), id));
+        });
+        skillsByPortfolio.put(portfolioId, new HashSet<>(skills.keySet()));
+        allPortfolios = copyWith(allPortfolios, id);
+    }
+
+    public synchronized void remove(Long portfolioId) {
+        int id = toInt(portfolioId);
+        if (allPortfolios.contains(id)) {
+            allPortfolios = copyWithout(allPortfolios, id);
+        }
+
+        Set<String> skillIds = skillsByPortfolio.remove(portfolioId);
+        if (skillIds == null) {
+            return;
+        }
+
+        for (String skillId : skillIds) {
+            RoaringBitmap posting = postings.get(skillId);
+            if (posting == null) {
+                continue;
+            }
+
+            RoaringBitmap removed = copyWithout(posting, id);
+            if (removed.isEmpty()) {
+                postings.remove(skillId);
+            } else {
+                postings.put(skillId, removed);
+            }
+        }
+    }
+
+    /**
+     * 기술 검색식에 해당하는 portfolioId 목록 (오름차순)
+     */
+    public List<Long> match(SkillQuery query) {
+        Map<String, RoaringBitmap> postings = this.postings;
+        RoaringBitmap all = allPortfolios;
+        RoaringBitmap result = new RoaringBitmap();
+        for (SkillQuery.Clause clause : query.getClauses()) {
+            result.or(evaluate(clause, postings, all));
+        }
+
+        return Arrays.stream(result.toArray())
+                .asLongStream()
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 기술을 사용하는 포트폴리오 수
+     */
+    public long countUsage(String skillId) {
+        return postings.getOrDefault(skillId, EMPTY).getLongCardinality();
+    }
+
+    /**
+     * 전체 포트폴리오 기준 기술별 포트폴리오 수
+     */
+    public List<SkillFacet> countAll() {
+        Map<String, Long> counts = new HashMap<>();
+        Map<String, RoaringBitmap> postings = this.postings;
+        postings.forEach((skillId, posting) -> counts.put(skillId, posting.getLongCardinality()));
+
+        return toFacets(counts);
+    }
+
+    /**
+     * 검색 결과(portfolioIds) 기준 기술별 포트폴리오 수
+     */
+    public List<SkillFacet> count(Collection<Long> portfolioIds) {
+        RoaringBitmap result = RoaringBitmap.bitmapOf(portfolioIds.stream().mapToInt(this::toInt).toArray());
+
+        Map<String, Long> counts = new HashMap<>();
+        Map<String, RoaringBitmap> postings = this.postings;
+        postings.forEach((skillId, posting) -> counts.put(skillId, (long) RoaringBitmap.andCardinality(posting, result)));
+
+        return toFacets(counts);
+    }
+
+    private RoaringBitmap evaluate(SkillQuery.Clause clause, Map<String, RoaringBitmap> postings, RoaringBitmap allPortfolios) {
+        RoaringBitmap matched = null;
+        for (String skillId : clause.getIncludes()) {
+            RoaringBitmap posting = postings.getOrDefault(skillId, EMPTY);
+            matched = matched == null ? posting.clone() : RoaringBitmap.and(matched, posting);
+        }
+
+        // NOT 조건만 있으면 전체 포트폴리오에서 제외
+        if (matched == null) {
+            matched = allPortfolios.clone();
+        }
+
+        for (String skillId : clause.getExcludes()) {
+            matched.andNot(postings.getOrDefault(skillId, EMPTY));
+        }
+
+        return matched;
+    }
+
+    private List<SkillFacet> toFacets(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(entry -> new SkillFacet(skillNames.getOrDefault(entry.getKey(), entry.getKey()), entry.getValue()))
+                .sorted(Comparator.comparingLong(SkillFacet::getCount).reversed()
+                        .thenComparing(SkillFacet::getSkillName))
+                .collect(Collectors.toList());
+    }
+
+    private RoaringBitmap copyWith(RoaringBitmap bitmap, int portfolioId) {
+        RoaringBitmap copy = bitmap == null ? new RoaringBitmap() : bitmap.clone();
+        copy.add(portfolioId);
+        return copy;
+    }
+
+    private RoaringBitmap copyWithout(RoaringBitmap bitmap, int portfolioId) {
+        RoaringBitmap copy = bitmap.clone();
+        copy.remove(portfolioId);
+        return copy;
+    }
+
+    /**
+     * RoaringBitmap은 32bit 정수 기반
+     */
+    private int toInt(Long portfolioId) {
+        return Math.toIntExact(portfolioId);
+    }
+}
@@ -0,0 +1,224 @@
+package main001.server.domain.portfolio.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import main001.server.domain.portfolio.dto.PortfolioCursor;
+import main001.server.domain.portfolio.entity.Portfolio;
+import main001.server.domain.portfolio.enums.PortfolioSortKey;
+import main001.server.domain.portfolio.repository.PortfolioRepository;
+import main001.server.domain.portfolio.repository.PortfolioSortSource;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 포트폴리오 정렬 기준 값(좋아요, 조회수, trending 점수)과 작성자 색인
+ * 검색 색인으로 찾은 id 집합을 DB에 IN 조건으로 넘기지 않고 메모리에서 정렬/페이지화한 뒤, 해당 페이지의 id만 조회하기 위해 사용한다.
+ * 작성일 순서는 portfolioId 순서와 같으므로 id로 정렬한다.
+ * 재구성은 새 맵을 만든 뒤 참조만 교체하고, 변경은 재구성과 겹치지 않도록 같은 잠금으로 직렬화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioSortIndex {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final PortfolioRepository portfolioRepository;
+
+    private volatile Map<Long, SortValues> valuesByPortfolio = new ConcurrentHashMap<>();
+    private volatile Map<Long, Set<Long>> portfoliosByUser = new ConcurrentHashMap<>();
+
+    /**
+     * 서버 시작 시 전체 포트폴리오의 정렬 기준 값으로 색인을 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<Long, SortValues> values = new ConcurrentHashMap<>();
+        Map<Long, Set<Long>> owners = new ConcurrentHashMap<>();
+        PageRequest pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("portfolioId"));
+        Slice<PortfolioSortSource> slice;
+        do {
+            slice = portfolioRepository.findAllSortSources(pageable);
+            slice.forEach(source -> {
+                values.put(source.getPortfolioId(), new SortValues(source.getUserId(),
+                        source.getLikesCount(), source.getViewCount(), source.getCreatedAt()));
+                owners.computeIfAbsent(source.getUserId(), id -> ConcurrentHashMap.newKeySet()).add(source.getPortfolioId());
+            });
+            pageable = pageable.next();
+        } while (slice.hasNext());
+
+        valuesByPortfolio = values;
+        portfoliosByUser = owners;
+
+        log.info("# Portfolio sort index rebuilt : {} portfolios", values.size());
+    }
+
+    public synchronized void index(Portfolio portfolio) {
+        Long userId = portfolio.getUser().getUserId();
+        valuesByPortfolio.put(portfolio.getPortfolioId(),
+                new SortValues(userId, portfolio.getLikesCount(), portfolio.getViewCount(), portfolio.getCreatedAt()));
+        portfoliosByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(portfolio.getPortfolioId());
+    }
+
+    public synchronized void remove(Long portfolioId) {
+        SortValues removed = valuesByPortfolio.remove(portfolioId);
+        if (removed == null) {
+            return;
+        }
+
+        portfoliosByUser.computeIfPresent(removed.userId, (id, portfolioIds) -> {
+            portfolioIds.remove(portfolioId);
+            return portfolioIds.isEmpty() ? null : portfolioIds;
+        });
+    }
+
+    public synchronized void addViewCount(Long portfolioId, long delta) {
+        valuesByPortfolio.computeIfPresent(portfolioId,
+                (id, values) -> new SortValues(values.userId, values.likesCount, (int) (values.viewCount + delta), values.createdAt));
+    }
+
+    public synchronized void addLikesCount(Long portfolioId, int delta) {
+        valuesByPortfolio.computeIfPresent(portfolioId,
+                (id, values) -> new SortValues(values.userId, values.likesCount + delta, values.viewCount, values.createdAt));
+    }
+
+    /**
+     * 작성자가 userIds 중 하나인 portfolioId 목록
+     */
+    public Set<Long> findByUsers(Collection<Long> userIds) {
+        Map<Long, Set<Long>> owners = portfoliosByUser;
+        Set<Long> portfolioIds = new HashSet<>();
+        for (Long userId : userIds) {
+            portfolioIds.addAll(owners.getOrDefault(userId, Collections.emptySet()));
+        }
+        return portfolioIds;
+    }
+
+    /**
+     * 색인에 있는 id만 남김 : 아직 색인되지 않았거나 삭제된 id는 정렬 기준 값이 없으므로 제외
+     */
+    public List<Long> filterIndexed(Collection<Long> portfolioIds) {
+        Map<Long, SortValues> values = valuesByPortfolio;
+
+        return portfolioIds.stream()
+                .filter(values::containsKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * portfolioIds를 정렬 기준 내림차순(같은 값은 portfolioId 내림차순)으로 정렬했을 때 offset부터 limit개의 id
+     * cursor가 있으면 cursor 이후의 id만 대상으로 한다. 전체를 정렬하지 않고 offset + limit 크기의 heap만 유지한다.
+     * 색인에 없는 id는 제외한다.
+     */
+    public List<Long> sort(Collection<Long> portfolioIds, PortfolioSortKey sortKey, PortfolioCursor cursor, int offset, int limit) {
+        int capacity = offset + limit;
+        if (capacity <= 0) {
+            return Collections.emptyList();
+        }
+
+        // 정렬 중 값이 바뀌어도 비교 결과가 일관되도록 현재 값을 고정
+        Map<Long, SortValues> snapshot = new HashMap<>();
+        Map<Long, SortValues> values = valuesByPortfolio;
+        for (Long portfolioId : portfolioIds) {
+            SortValues value = values.get(portfolioId);
+            if (value != null && (cursor == null || isAfter(portfolioId, value, sortKey, cursor))) {
+                snapshot.put(portfolioId, value);
+            }
+        }
+
+        Comparator<Long> order = comparator(sortKey, snapshot);
+        PriorityQueue<Long> heap = new PriorityQueue<>(Math.min(capacity, snapshot.size()) + 1, order.reversed());
+        for (Long portfolioId : snapshot.keySet()) {
+            heap.add(portfolioId);
+            if (heap.size() > capacity) {
+                heap.poll();
+            }
+        }
+
+        List<Long> sorted = new ArrayList<>(heap);
+        sorted.sort(order);
+
+        return offset >= sorted.size() ? Collections.emptyList() : sorted.subList(offset, sorted.size());
+    }
+
+    /**
+     * 커서 생성용 정렬 기준 값 : 색인에 없으면 null
+     */
+    public Comparable<?> valueOf(Long portfolioId, PortfolioSortKey sortKey) {
+        SortValues values = valuesByPortfolio.get(portfolioId);
+        if (values == null) {
+            return null;
+        }
+
+        switch (sortKey) {
+            case VIEWS:
+                return values.viewCount;
+            case LIKES:
+                return values.likesCount;
+            case TRENDING:
+                return values.trendingScore;
+            default:
+                return values.createdAt;
+        }
+    }
+
+    private Comparator<Long> comparator(PortfolioSortKey sortKey, Map<Long, SortValues> values) {
+        Comparator<Long> byId = Comparator.reverseOrder();
+        switch (sortKey) {
+            case VIEWS:
+                return Comparator.<Long>comparingInt(id -> values.get(id).viewCount).reversed().thenComparing(byId);
+            case LIKES:
+                return Comparator.<Long>comparingInt(id -> values.get(id).likesCount).reversed().thenComparing(byId);
+            case TRENDING:
+                return Comparator.<Long>comparingDouble(id -> values.get(id).trendingScore).reversed().thenComparing(byId);
+            default:
+                return byId;
+        }
+    }
+
+    /**
+     * (key < value) OR (key = value AND portfolioId < lastId)
+     */
+    private boolean isAfter(Long portfolioId, SortValues values, PortfolioSortKey sortKey, PortfolioCursor cursor) {
+        int compared;
+        switch (sortKey) {
+            case VIEWS:
+                compared = Integer.compare(values.viewCount, (Integer) cursor.getValue());
+                break;
+            case LIKES:
+                compared = Integer.compare(values.likesCount, (Integer) cursor.getValue());
+                break;
+            case TRENDING:
+                compared = Double.compare(values.trendingScore, (Double) cursor.getValue());
+                break;
+            default:
+                compared = 0;
+        }
+
+        return compared < 0 || (compared == 0 && portfolioId < cursor.getPortfolioId());
+    }
+
+    private static class SortValues {
+        private final Long userId;
+        private final int likesCount;
+        private final int viewCount;
+        private final LocalDateTime createdAt;
+        private final double trendingScore;
+
+        private SortValues(Long userId, int likesCount, int viewCount, LocalDateTime createdAt) {
+            this.userId = userId;
+            this.likesCount = likesCount;
+            this.viewCount = viewCount;
+            this.createdAt = createdAt;
+            this.trendingScore = TrendingScore.calculate(likesCount, viewCount, createdAt);
+        }
+    }
+}
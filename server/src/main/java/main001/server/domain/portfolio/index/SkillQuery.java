@@ -0,0 +1,66 @@
+package main001.server.domain.portfolio.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import main001.server.exception.BusinessLogicException;
+import main001.server.exception.ExceptionCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * 기술 검색식 ex) "Java AND Spring AND NOT Kotlin OR Python"
+ * AND가 OR보다 우선하며, 각 항은 NOT으로 제외할 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class SkillQuery {
+    private static final Pattern OR = Pattern.compile("\\s+OR\\s+");
+    private static final Pattern AND = Pattern.compile("\\s+AND\\s+");
+    private static final String NOT = "NOT ";
+
+    private final List<Clause> clauses;
+
+    /**
+     * @param skillIdResolver 기술 이름 -> skillId 변환 (SkillService.findSkill)
+     */
+    public static SkillQuery parse(String expression, UnaryOperator<String> skillIdResolver) {
+        List<Clause> clauses = new ArrayList<>();
+
+        for (String or : OR.split(expression.trim())) {
+            List<String> includes = new ArrayList<>();
+            List<String> excludes = new ArrayList<>();
+
+            for (String term : AND.split(or.trim())) {
+                term = term.trim();
+                if (term.startsWith(NOT)) {
+                    excludes.add(resolve(term.substring(NOT.length()), skillIdResolver));
+                } else {
+                    includes.add(resolve(term, skillIdResolver));
+                }
+            }
+            clauses.add(new Clause(includes, excludes));
+        }
+
+        return new SkillQuery(clauses);
+    }
+
+    private static String resolve(String skill, UnaryOperator<String> skillIdResolver) {
+        if (skill.isBlank()) {
+            throw new BusinessLogicException(ExceptionCode.SEARCH_CONDITION_MISMATCH);
+        }
+        return skillIdResolver.apply(skill.trim());
+    }
+
+    /**
+     * includes 전체를 포함하고 excludes는 하나도 포함하지 않는 조건
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Clause {
+        private final List<String> includes;
+        private final List<String> excludes;
+    }
+}
@@ -0,0 +1,23 @@
+package main001.server.domain.portfolio.index;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 인기 급상승(trending) 점수 계산식
+ * score = ln(1 + 좋아요 * 5 + 조회수) + 작성 시각 / 72시간
+ * 인기도에 exp(-(현재 - 작성 시각) / 72시간)을 곱한 값과 정렬 순서가 같으므로
+ * 시간이 지나도 점수를 다시 계산할 필요가 없고, 좋아요/조회수가 바뀐 포트폴리오만 갱신하면 된다.
+ */
+public class TrendingScore {
+    private static final int LIKE_WEIGHT = 5;
+    private static final int VIEW_WEIGHT = 1;
+    private static final double DECAY_SECONDS = 72 * 60 * 60;
+
+    public static double calculate(int likesCount, int viewCount, LocalDateTime createdAt) {
+        double popularity = Math.log(1 + (double) likesCount * LIKE_WEIGHT + (double) viewCount * VIEW_WEIGHT);
+        long createdAtSeconds = createdAt == null ? 0 : createdAt.toEpochSecond(ZoneOffset.UTC);
+
+        return popularity + createdAtSeconds / DECAY_SECONDS;
+    }
+}
@@ -2,12 +2,14 @@ package main001.server.domain.portfolio.mapper;
 
 import main001.server.domain.portfolio.dto.PortfolioDto;
 import main001.server.domain.portfolio.entity.Portfolio;
+import main001.server.domain.portfolio.repository.PortfolioSummary;
 import main001.server.domain.utils.CurrentUserIdFinder;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Mapper(componentModel = "spring")
@@ -27,7 +29,24 @@ public interface PortfolioMapper {
 
         Long currentUserId = CurrentUserIdFinder.getCurrentUserId();
 
-        PortfolioDto.Response response = PortfolioDto.Response.builder()
+        PortfolioDto.Response response = portfolioToSharedResponseDto(portfolio);
+
+        if (currentUserId != null && currentUserId.equals(portfolio.getUser().getUserId())) {
+            response.setAuth(true);
+        }
+
+        return response;
+    }
+
+    /**
+     * 조회자와 무관한 응답 생성 (상세 조회 캐시 저장용)
+     */
+    default PortfolioDto.Response portfolioToSharedResponseDto(Portfolio portfolio) {
+        if ( portfolio == null ) {
+            return null;
+        }
+
+        return PortfolioDto.Response.builder()
                 .portfolioId(portfolio.getPortfolioId())
                 .userId(portfolio.getUser().getUserId())
                 .name(portfolio.getUser().getName())
@@ -47,12 +66,6 @@ public interface PortfolioMapper {
                 .updatedAt(portfolio.getUpdatedAt())
                 .isAuth(portfolio.getUser().isAuth())
                 .build();
-
-        if (currentUserId != null && currentUserId.equals(portfolio.getUser().getUserId())) {
-            response.setAuth(true);
-        }
-
-        return response;
     }
 
     default List<PortfolioDto.Response> portfolioToPortfolioResponseDtos(List<Portfolio> portfolios) {
@@ -64,7 +77,7 @@ public interface PortfolioMapper {
 
         List<PortfolioDto.Response> list = new ArrayList<>( portfolios.size() );
         portfolios.forEach(p -> {
-            PortfolioDto.Response response = portfolioToPortfolioResponseDto(p);
+            PortfolioDto.Response response = portfolioToSharedResponseDto(p);
             if(p.getUser().getUserId().equals(currentUserId)) {
                 response.setAuth(true);
             }
@@ -73,4 +86,30 @@ public interface PortfolioMapper {
 
         return list;
     }
+
+    default List<PortfolioDto.SummaryResponse> portfolioSummariesToSummaryResponses(List<PortfolioSummary> summaries, Set<Long> likedPortfolioIds) {
+        if ( summaries == null ) {
+            return null;
+        }
+
+        Long currentUserId = CurrentUserIdFinder.getCurrentUserId();
+
+        return summaries.stream()
+                .map(summary -> PortfolioDto.SummaryResponse.builder()
+                        .portfolioId(summary.getPortfolioId())
+                        .userId(summary.getUserId())
+                        .name(summary.getName())
+                        .profileImg(summary.getProfileImg())
+                        .title(summary.getTitle())
+                        .representativeImgUrl(summary.getRepresentativeImgUrl())
+                        .skills(summary.getSkills())
+                        .likesCount(summary.getLikesCount())
+                        .viewCount(summary.getViewCount())
+                        .createdAt(summary.getCreatedAt())
+                        .updatedAt(summary.getUpdatedAt())
+                        .isAuth(summary.isAuth() || summary.getUserId().equals(currentUserId))
+                        .isLikes(likedPortfolioIds.contains(summary.getPortfolioId()))
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
@@ -3,21 +3,59 @@ package main001.server.domain.portfolio.repository;
 import main001.server.domain.portfolio.entity.Portfolio;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
+import java.util.Collection;
+import java.util.List;
 
-    Page<Portfolio> findByUserUserId(Long userId, Pageable pageable);
+public interface PortfolioRepository extends JpaRepository<Portfolio, Long>, PortfolioRepositoryCustom {
+    /**
+     * 목록 조회용 PortfolioSummary 쿼리 : user, thumbnail은 join으로 한 번에 조회
+     */
+    String SELECT_SUMMARY = "SELECT new main001.server.domain.portfolio.repository.PortfolioSummary(" +
+            "p.portfolioId, u.userId, u.name, u.profileImg, p.title, t.representativeImgUrl, " +
+            "p.likesCount, p.viewCount, p.trendingScore, p.createdAt, p.updatedAt, u.auth) " +
+            "FROM Portfolio p JOIN p.user u LEFT JOIN p.thumbnail t ";
 
-    @Query("SELECT DISTINCT p FROM Portfolio p JOIN p.skills ps JOIN ps.skill s WHERE s.skillId = :id")
-    Page<Portfolio> findBySkillId(@Param("id") String id, Pageable pageable);
+    @Query(value = SELECT_SUMMARY,
+            countQuery = "SELECT COUNT(p) FROM Portfolio p")
+    Page<PortfolioSummary> findSummaries(Pageable pageable);
 
-    @Query("SELECT DISTINCT p FROM Portfolio p JOIN p.user u WHERE u.name LIKE :userName%")
-    Page<Portfolio> findByUserName(@Param("userName") String name,Pageable pageable);
+    @Query(value = SELECT_SUMMARY + "WHERE u.userId = :userId",
+            countQuery = "SELECT COUNT(p) FROM Portfolio p WHERE p.user.userId = :userId")
+    Page<PortfolioSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    @Query("SELECT DISTINCT p from Portfolio p where p.title like %:title%")
-    Page<Portfolio> findByTitle(@Param("title") String title, Pageable pageable);
+    /**
+     * 한 페이지 분량의 id만 조회 (정렬과 전체 개수는 PortfolioSortIndex에서 처리)
+     */
+    @Query(value = SELECT_SUMMARY + "WHERE p.portfolioId IN :portfolioIds")
+    List<PortfolioSummary> findSummariesByPortfolioIdIn(@Param("portfolioIds") Collection<Long> portfolioIds);
+
+    @Query("SELECT ps.portfolio.portfolioId AS portfolioId, s.skillId AS skillId, s.name AS skillName FROM PortfolioSkill ps JOIN ps.skill s " +
+            "WHERE ps.portfolio.portfolioId IN :portfolioIds ORDER BY ps.portfolioSkillId")
+    List<PortfolioSkillName> findSkillNames(@Param("portfolioIds") Collection<Long> portfolioIds);
+
+    @Query("SELECT ps.portfolio.portfolioId AS portfolioId, s.skillId AS skillId, s.name AS skillName FROM PortfolioSkill ps JOIN ps.skill s")
+    Slice<PortfolioSkillName> findAllSkillNames(Pageable pageable);
+
+    @Query("SELECT p.portfolioId FROM Portfolio p")
+    Slice<Long> findAllPortfolioIds(Pageable pageable);
+
+    @Query("SELECT p.portfolioId AS portfolioId, p.likesCount AS likesCount, p.viewCount AS viewCount, p.createdAt AS createdAt " +
+            "FROM Portfolio p WHERE p.portfolioId IN :portfolioIds")
+    List<PortfolioTrendingSource> findTrendingSources(@Param("portfolioIds") Collection<Long> portfolioIds);
+
+    @Query("SELECT p.portfolioId AS portfolioId, p.likesCount AS likesCount, p.viewCount AS viewCount, p.createdAt AS createdAt " +
+            "FROM Portfolio p WHERE p.trendingScore = 0 AND p.portfolioId > :lastPortfolioId")
+    Slice<PortfolioTrendingSource> findTrendingSourcesWithoutScore(@Param("lastPortfolioId") Long lastPortfolioId, Pageable pageable);
+
+    @Query("SELECT p.portfolioId AS portfolioId, p.user.userId AS userId, p.likesCount AS likesCount, p.viewCount AS viewCount, p.createdAt AS createdAt FROM Portfolio p")
+    Slice<PortfolioSortSource> findAllSortSources(Pageable pageable);
+
+    @Query("SELECT p.portfolioId AS portfolioId, p.title AS title FROM Portfolio p")
+    Slice<PortfolioTitle> findAllTitles(Pageable pageable);
 
 }
@@ -0,0 +1,16 @@
+package main001.server.domain.portfolio.repository;
+
+import main001.server.domain.portfolio.dto.PortfolioCursor;
+import main001.server.domain.portfolio.entity.Portfolio;
+import main001.server.domain.portfolio.enums.PortfolioSortKey;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface PortfolioRepositoryCustom {
+
+    /**
+     * (정렬 기준 값, portfolioId) 기준 keyset 조회 : OFFSET과 count 쿼리 없이 limit 개수만큼 조회
+     */
+    List<PortfolioSummary> findSummariesByCursor(Specification<Portfolio> condition, PortfolioSortKey sortKey, PortfolioCursor cursor, int limit);
+}
@@ -0,0 +1,70 @@
+package main001.server.domain.portfolio.repository;
+
+import main001.server.domain.portfolio.dto.PortfolioCursor;
+import main001.server.domain.portfolio.entity.Portfolio;
+import main001.server.domain.portfolio.enums.PortfolioSortKey;
+import main001.server.domain.user.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PortfolioRepositoryImpl implements PortfolioRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PortfolioSummary> findSummariesByCursor(Specification<Portfolio> condition, PortfolioSortKey sortKey, PortfolioCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PortfolioSummary> query = cb.createQuery(PortfolioSummary.class);
+        Root<Portfolio> portfolio = query.from(Portfolio.class);
+        Join<Portfolio, User> user = portfolio.join("user");
+        Join<Portfolio, ?> thumbnail = portfolio.join("thumbnail", JoinType.LEFT);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (condition != null) {
+            predicates.add(condition.toPredicate(portfolio, query, cb));
+        }
+        if (cursor != null) {
+            predicates.add(seek(cb, portfolio, sortKey, cursor));
+        }
+
+        query.select(cb.construct(PortfolioSummary.class,
+                        portfolio.get("portfolioId"),
+                        user.get("userId"),
+                        user.get("name"),
+                        user.get("profileImg"),
+                        portfolio.get("title"),
+                        thumbnail.get("representativeImgUrl"),
+                        portfolio.get("likesCount"),
+                        portfolio.get("viewCount"),
+                        portfolio.get("trendingScore"),
+                        portfolio.get("createdAt"),
+                        portfolio.get("updatedAt"),
+                        user.get("auth")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(portfolio.get(sortKey.getProperty())), cb.desc(portfolio.get("portfolioId")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * (key < value) OR (key = value AND portfolioId < lastId)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate seek(CriteriaBuilder cb, Root<Portfolio> portfolio, PortfolioSortKey sortKey, PortfolioCursor cursor) {
+        Path<Comparable> key = portfolio.get(sortKey.getProperty());
+        Path<Long> portfolioId = portfolio.get("portfolioId");
+        Comparable value = cursor.getValue();
+
+        return cb.or(
+                cb.lessThan(key, value),
+                cb.and(cb.equal(key, value), cb.lessThan(portfolioId, cursor.getPortfolioId())));
+    }
+}
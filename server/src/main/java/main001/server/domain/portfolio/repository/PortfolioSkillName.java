@@ -0,0 +1,12 @@
+package main001.server.domain.portfolio.repository;
+
+/**
+ * 포트폴리오별 기술 projection
+ */
+public interface PortfolioSkillName {
+    Long getPortfolioId();
+
+    String getSkillId();
+
+    String getSkillName();
+}
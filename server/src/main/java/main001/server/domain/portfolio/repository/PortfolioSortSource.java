@@ -0,0 +1,18 @@
+package main001.server.domain.portfolio.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정렬 색인 구성을 위한 projection
+ */
+public interface PortfolioSortSource {
+    Long getPortfolioId();
+
+    Long getUserId();
+
+    int getLikesCount();
+
+    int getViewCount();
+
+    LocalDateTime getCreatedAt();
+}
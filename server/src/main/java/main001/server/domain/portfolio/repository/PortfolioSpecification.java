@@ -0,0 +1,14 @@
+package main001.server.domain.portfolio.repository;
+
+import main001.server.domain.portfolio.entity.Portfolio;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 포트폴리오 검색 조건
+ */
+public class PortfolioSpecification {
+
+    public static Specification<Portfolio> userIdEquals(Long userId) {
+        return (portfolio, query, cb) -> cb.equal(portfolio.get("user").get("userId"), userId);
+    }
+}
@@ -0,0 +1,53 @@
+package main001.server.domain.portfolio.repository;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목록 조회용 포트폴리오 projection : description, content(LONGTEXT)는 조회하지 않는다.
+ */
+@Getter
+public class PortfolioSummary {
+    private final Long portfolioId;
+    private final Long userId;
+    private final String name;
+    private final String profileImg;
+    private final String title;
+    private final String representativeImgUrl;
+    private final int likesCount;
+    private final int viewCount;
+    private final double trendingScore;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final boolean auth;
+    private final List<String> skills = new ArrayList<>();
+
+    public PortfolioSummary(Long portfolioId,
+                            Long userId,
+                            String name,
+                            String profileImg,
+                            String title,
+                            String representativeImgUrl,
+                            Integer likesCount,
+                            Integer viewCount,
+                            Double trendingScore,
+                            LocalDateTime createdAt,
+                            LocalDateTime updatedAt,
+                            Boolean auth) {
+        this.portfolioId = portfolioId;
+        this.userId = userId;
+        this.name = name;
+        this.profileImg = profileImg;
+        this.title = title;
+        this.representativeImgUrl = representativeImgUrl;
+        this.likesCount = likesCount;
+        this.viewCount = viewCount;
+        this.trendingScore = trendingScore;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.auth = auth;
+    }
+}
@@ -0,0 +1,10 @@
+package main001.server.domain.portfolio.repository;
+
+/**
+ * 검색 색인 구성을 위한 포트폴리오 제목 projection
+ */
+public interface PortfolioTitle {
+    Long getPortfolioId();
+
+    String getTitle();
+}
@@ -0,0 +1,16 @@
+package main001.server.domain.portfolio.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * trending 점수 계산용 projection
+ */
+public interface PortfolioTrendingSource {
+    Long getPortfolioId();
+
+    int getLikesCount();
+
+    int getViewCount();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,71 @@
+package main001.server.domain.portfolio.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import main001.server.domain.portfolio.dto.PortfolioDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 포트폴리오 상세 조회 응답 캐시 (W-TinyLFU, 응답 크기 기준 최대 용량 제한)
+ * 조회자에 따라 달라지는 isAuth, isLikes는 캐시된 값이 아닌 복사본에 덮어써서 사용한다.
+ */
+@Component
+public class PortfolioDetailCache {
+    private static final int BASE_WEIGHT = 256;
+
+    private final Cache<Long, PortfolioDto.Response> cache;
+
+    public PortfolioDetailCache(MeterRegistry meterRegistry,
+                                @Value("${portfolio.detail-cache.max-weight:67108864}") long maxWeight) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Long portfolioId, PortfolioDto.Response response) -> weigh(response))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "portfolio.detail");
+    }
+
+    /**
+     * 캐시에 없으면 loader로 조회 후 저장하고, 호출자가 수정할 수 있는 복사본을 반환
+     */
+    public PortfolioDto.Response get(Long portfolioId, Function<Long, PortfolioDto.Response> loader) {
+        return cache.get(portfolioId, loader).toBuilder().build();
+    }
+
+    public void evict(Long portfolioId) {
+        cache.invalidate(portfolioId);
+    }
+
+    /**
+     * 작성자 정보(이름, 프로필 이미지 등)가 변경된 경우 해당 유저의 포트폴리오 캐시 삭제
+     */
+    public void evictByUser(Long userId) {
+        cache.asMap().values().removeIf(response -> response.getUserId() == userId);
+    }
+
+    private int weigh(PortfolioDto.Response response) {
+        long chars = length(response.getTitle())
+                + length(response.getName())
+                + length(response.getProfileImg())
+                + length(response.getGitLink())
+                + length(response.getDistributionLink())
+                + length(response.getDescription())
+                + length(response.getContent())
+                + length(response.getRepresentativeImgUrl());
+        if (response.getSkills() != null) {
+            chars += response.getSkills().stream().mapToInt(this::length).sum();
+        }
+
+        return (int) Math.min(Integer.MAX_VALUE, BASE_WEIGHT + chars * 2);
+    }
+
+    private int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
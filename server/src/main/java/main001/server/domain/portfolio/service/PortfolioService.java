@@ -5,17 +5,31 @@ import lombok.extern.slf4j.Slf4j;
 import main001.server.amazon.s3.service.S3Service;
 import main001.server.domain.attachment.image.entity.RepresentativeAttachment;
 import main001.server.domain.attachment.image.repository.RepresentativeAttachmentRepository;
+import main001.server.domain.portfolio.dto.PortfolioCursor;
 import main001.server.domain.portfolio.entity.Portfolio;
+import main001.server.domain.portfolio.enums.PortfolioSortKey;
+import main001.server.domain.portfolio.index.PortfolioSearchIndex;
+import main001.server.domain.portfolio.index.PortfolioSkillIndex;
+import main001.server.domain.portfolio.index.PortfolioSortIndex;
+import main001.server.domain.portfolio.index.SkillQuery;
 import main001.server.domain.portfolio.repository.PortfolioRepository;
+import main001.server.domain.portfolio.repository.PortfolioSpecification;
+import main001.server.domain.portfolio.repository.PortfolioSummary;
 import main001.server.domain.skill.entity.PortfolioSkill;
+import main001.server.domain.skill.response.SkillFacet;
 import main001.server.domain.skill.service.SkillService;
 import main001.server.domain.user.entity.User;
+import main001.server.domain.user.index.UserNameIndex;
 import main001.server.domain.user.repository.UserRepository;
+import main001.server.domain.utils.TransactionCallbacks;
 import main001.server.exception.BusinessLogicException;
 import main001.server.exception.ExceptionCode;
+import main001.server.response.CursorResponseDto;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -24,6 +38,8 @@ import java.io.IOException;
 
 import java.util.*;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -35,6 +51,13 @@ public class PortfolioService {
     private final SkillService skillService;
     private final S3Service s3Service;
     private final RepresentativeAttachmentRepository thumbnailRepository;
+    private final PortfolioSearchIndex searchIndex;
+    private final PortfolioSkillIndex skillIndex;
+    private final PortfolioSortIndex sortIndex;
+    private final UserNameIndex userNameIndex;
+    private final PortfolioViewCountBuffer viewCountBuffer;
+    private final PortfolioDetailCache detailCache;
+    private final PortfolioTrendingScoreUpdater trendingScoreUpdater;
     private final String DEFAULT_IMAGE_URL = "https://main001-portfolio.s3.ap-northeast-2.amazonaws.com/default/default.png";
 
     public Portfolio createPortfolio(Portfolio portfolio, List<String> skills, MultipartFile image) throws IOException{
@@ -61,7 +84,15 @@ public class PortfolioService {
             portfolio.addSkill(ps);
         }
 
-        return portfolioRepository.save(portfolio);
+        Portfolio savedPortfolio = portfolioRepository.save(portfolio);
+        TransactionCallbacks.afterCommit(() -> {
+            searchIndex.index(savedPortfolio);
+            skillIndex.index(savedPortfolio);
+            sortIndex.index(savedPortfolio);
+            trendingScoreUpdater.markChanged(savedPortfolio.getPortfolioId());
+        });
+
+        return savedPortfolio;
     }
 
     private RepresentativeAttachment uploadThumbnail(Portfolio portfolio, MultipartFile image) throws IOException {
@@ -92,6 +123,7 @@ public class PortfolioService {
 
         RepresentativeAttachment thumbnail = uploadThumbnail(findPortfolio,image);
         thumbnailRepository.save(thumbnail);
+        TransactionCallbacks.afterCommit(() -> detailCache.evict(portfolioId));
 
         return thumbnail.getRepresentativeImgUrl();
     }
@@ -122,7 +154,14 @@ public class PortfolioService {
             findPortfolio.addSkill(ps);
         }
 
-        return portfolioRepository.save(findPortfolio);
+        Portfolio updatedPortfolio = portfolioRepository.save(findPortfolio);
+        TransactionCallbacks.afterCommit(() -> {
+            searchIndex.index(updatedPortfolio);
+            skillIndex.index(updatedPortfolio);
+            detailCache.evict(updatedPortfolio.getPortfolioId());
+        });
+
+        return updatedPortfolio;
     }
 
 
@@ -143,6 +182,24 @@ public class PortfolioService {
             throw new BusinessLogicException(ExceptionCode.NO_PERMISSION_DELETING_POST);
         }
         portfolioRepository.delete(portfolio);
+        TransactionCallbacks.afterCommit(() -> removeFromIndexes(portfolioId));
+    }
+
+    /**
+     * 삭제된 포트폴리오를 메모리 색인/캐시에서 제거 (유저 탈퇴 시에도 사용)
+     */
+    public void removeFromIndexes(Long portfolioId) {
+        searchIndex.remove(portfolioId);
+        skillIndex.remove(portfolioId);
+        sortIndex.remove(portfolioId);
+        viewCountBuffer.discard(portfolioId);
+        detailCache.evict(portfolioId);
+    }
+
+    public void verifyExistPortfolio(long portfolioId) {
+        if (!portfolioRepository.existsById(portfolioId)) {
+            throw new BusinessLogicException(ExceptionCode.PORTFOLIO_NOT_FOUND);
+        }
     }
 
     public Portfolio findVerifiedPortfolio(long portfolioId) {
@@ -152,69 +209,199 @@ public class PortfolioService {
         return findPortfolio;
     }
 
-    @Transactional
+    /**
+     * 조회수는 버퍼에 누적 후 PortfolioViewCountBuffer.flush()에서 일괄 반영
+     * 존재 여부는 PK 조회로만 확인
+     */
+    @Transactional(readOnly = true)
     public void increaseViewCount(Long portfolioId) {
-        Portfolio portfolio = findVerifiedPortfolio(portfolioId);
-        portfolio.updateViewCount();
-        portfolioRepository.save(portfolio);
+        verifyExistPortfolio(portfolioId);
+        viewCountBuffer.increase(portfolioId);
     }
 
-    public Page<Portfolio> getPortfoliosByUser(Long userId, String sortBy, int page, int size) {
+    public Page<PortfolioSummary> getPortfoliosByUser(Long userId, String sortBy, int page, int size) {
         PageRequest pageable = getPageRequest(page, size, sortBy);
 
-        Page<Portfolio> response = portfolioRepository.findByUserUserId(userId, pageable);
+        Page<PortfolioSummary> response = portfolioRepository.findSummariesByUserId(userId, pageable);
+        fillSkills(response.getContent());
 
         return response;
     }
 
-    public Page<Portfolio> searchPortfolios(int page, int size, String category, String sortBy, String value) {
+    public CursorResponseDto<PortfolioSummary> getPortfoliosByUser(Long userId, String sortBy, String cursor, int size) {
+        return getCursorPage(PortfolioSpecification.userIdEquals(userId), sortBy, cursor, size);
+    }
+
+    public Page<PortfolioSummary> searchPortfolios(int page, int size, String category, String sortBy, String value) {
         PageRequest pageable = getPageRequest(page, size, sortBy);
 
-        Page<Portfolio> response;
+        Page<PortfolioSummary> response;
 
         if(value.equals("")) {
-            return portfolioRepository.findAll(pageable);
+            response = portfolioRepository.findSummaries(pageable);
+            fillSkills(response.getContent());
+            return response;
+        }
+
+        List<Long> portfolioIds = sortIndex.filterIndexed(searchPortfolioIds(category, value));
+        if(portfolioIds.isEmpty()) {
+            throw new BusinessLogicException(ExceptionCode.PORTFOLIO_NOT_SEARCHED);
         }
 
+        return getPageByIds(portfolioIds, pageable, sortBy);
+    }
+
+    public CursorResponseDto<PortfolioSummary> searchPortfolios(String cursor, int size, String category, String sortBy, String value) {
+        if(value.equals("")) {
+            return getCursorPage(null, sortBy, cursor, size);
+        }
+
+        Collection<Long> portfolioIds = searchPortfolioIds(category, value);
+        if(portfolioIds.isEmpty()) {
+            throw new BusinessLogicException(ExceptionCode.PORTFOLIO_NOT_SEARCHED);
+        }
+
+        return getCursorPageByIds(portfolioIds, sortBy, cursor, size);
+    }
+
+    /**
+     * 검색 결과 전체에 대한 기술별 포트폴리오 수 조회
+     */
+    public List<SkillFacet> countSkillFacets(String category, String value) {
+        if(value.equals("")) {
+            return skillIndex.countAll();
+        }
+
+        return skillIndex.count(searchPortfolioIds(category, value));
+    }
+
+    /**
+     * 검색 조건에 해당하는 portfolioId 목록을 메모리 색인에서 조회
+     */
+    private Collection<Long> searchPortfolioIds(String category, String value) {
         if(category.equals("userName")) {
-            response = portfolioRepository.findByUserName(value, pageable);
+            return sortIndex.findByUsers(userNameIndex.search(value));
         } else if (category.equals("title")) {
-            response = portfolioRepository.findByTitle(value, pageable);
+            return searchIndex.search(value);
+        } else if (category.equals("chosung")) {
+            return searchChosung(value);
         } else if (category.equals("skill")) {
-            value = skillService.findSkill(value);
-            response = portfolioRepository.findBySkillId(value,pageable);
-        } else {
-            throw new BusinessLogicException(ExceptionCode.SEARCH_CONDITION_MISMATCH);
+            return skillIndex.match(parseSkillQuery(value));
         }
+        throw new BusinessLogicException(ExceptionCode.SEARCH_CONDITION_MISMATCH);
+    }
 
-        if(response.getTotalElements()==0) {
-            throw new BusinessLogicException(ExceptionCode.PORTFOLIO_NOT_SEARCHED);
-        }
-        return response;
+    /**
+     * 제목 또는 작성자 이름의 초성 검색 : ex) "ㅍㅌㅍㄹㅇ"
+     */
+    private Set<Long> searchChosung(String value) {
+        Set<Long> portfolioIds = new HashSet<>(searchIndex.searchChosung(value));
+
+        portfolioIds.addAll(sortIndex.findByUsers(userNameIndex.searchChosung(value)));
+
+        return portfolioIds;
+    }
+
+    /**
+     * 기술 검색식의 기술 이름을 skillId로 변환
+     */
+    private SkillQuery parseSkillQuery(String value) {
+        return SkillQuery.parse(value, skillService::findSkill);
     }
 
     /**
      * 검색 조건 페이지화 메소드
      */
     private PageRequest getPageRequest(int page, int size, String sortBy) {
-        PageRequest pageable;
-        if(sortBy.equals("createdAt")) {
-            pageable = PageRequest.of(page, size,Sort.by("createdAt").descending());
-        } else if (sortBy.equals("views")) {
-            pageable = PageRequest.of(page, size,Sort.by("viewCount").descending());
-        } else if (sortBy.equals("likes")) {
-            pageable = PageRequest.of(page, size,Sort.by("likesCount").descending());
-        } else {
-            throw new BusinessLogicException(ExceptionCode.SEARCH_CONDITION_MISMATCH);
+        PortfolioSortKey sortKey = PortfolioSortKey.of(sortBy);
+
+        return PageRequest.of(page, size, Sort.by(sortKey.getProperty()).descending());
+    }
+
+    /**
+     * 커서 기반 조회 메소드 : size + 1개를 조회하여 다음 페이지 존재 여부를 판단
+     */
+    private CursorResponseDto<PortfolioSummary> getCursorPage(Specification<Portfolio> condition, String sortBy, String cursor, int size) {
+        PortfolioSortKey sortKey = PortfolioSortKey.of(sortBy);
+        PortfolioCursor current = PortfolioCursor.decode(cursor, sortKey);
+
+        List<PortfolioSummary> portfolios = portfolioRepository.findSummariesByCursor(condition, sortKey, current, size + 1);
+
+        if (portfolios.size() <= size) {
+            fillSkills(portfolios);
+            return new CursorResponseDto<>(portfolios, null);
+        }
+
+        List<PortfolioSummary> content = portfolios.subList(0, size);
+        fillSkills(content);
+        String nextCursor = PortfolioCursor.of(sortKey, content.get(size - 1)).encode();
+
+        return new CursorResponseDto<>(content, nextCursor);
+    }
+
+    /**
+     * 검색 색인으로 찾은 id 집합을 메모리에서 정렬/페이지화한 뒤 해당 페이지의 포트폴리오만 조회
+     * 전체 개수는 색인된 id 집합의 크기를 사용하므로 count 쿼리가 없다.
+     */
+    private Page<PortfolioSummary> getPageByIds(List<Long> portfolioIds, PageRequest pageable, String sortBy) {
+        PortfolioSortKey sortKey = PortfolioSortKey.of(sortBy);
+        List<Long> pageIds = sortIndex.sort(portfolioIds, sortKey, null, (int) pageable.getOffset(), pageable.getPageSize());
+
+        return new PageImpl<>(findSummariesInOrder(pageIds), pageable, portfolioIds.size());
+    }
+
+    private CursorResponseDto<PortfolioSummary> getCursorPageByIds(Collection<Long> portfolioIds, String sortBy, String cursor, int size) {
+        PortfolioSortKey sortKey = PortfolioSortKey.of(sortBy);
+        PortfolioCursor current = PortfolioCursor.decode(cursor, sortKey);
+
+        List<Long> ids = sortIndex.sort(portfolioIds, sortKey, current, 0, size + 1);
+        List<PortfolioSummary> content = findSummariesInOrder(ids.size() <= size ? ids : ids.subList(0, size));
+        if (ids.size() <= size || content.isEmpty()) {
+            return new CursorResponseDto<>(content, null);
+        }
+
+        // 조회 후 색인에서 빠진 경우 조회 결과의 값으로 커서 생성
+        PortfolioSummary last = content.get(content.size() - 1);
+        Comparable<?> value = sortIndex.valueOf(last.getPortfolioId(), sortKey);
+        PortfolioCursor next = value != null
+                ? new PortfolioCursor(sortKey, value, last.getPortfolioId())
+                : PortfolioCursor.of(sortKey, last);
+
+        return new CursorResponseDto<>(content, next.encode());
+    }
+
+    /**
+     * 페이지에 해당하는 id만 조회하고 정렬된 id 순서대로 반환
+     */
+    private List<PortfolioSummary> findSummariesInOrder(List<Long> portfolioIds) {
+        if (portfolioIds.isEmpty()) {
+            return new ArrayList<>();
         }
-        return pageable;
+
+        Map<Long, PortfolioSummary> summaryById = portfolioRepository.findSummariesByPortfolioIdIn(portfolioIds).stream()
+                .collect(Collectors.toMap(PortfolioSummary::getPortfolioId, Function.identity()));
+
+        List<PortfolioSummary> summaries = portfolioIds.stream()
+                .map(summaryById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        fillSkills(summaries);
+
+        return summaries;
     }
 
-    public void updateLikes(Long portfolioId, int number) {
-        Portfolio verifiedPortfolio = findVerifiedPortfolio(portfolioId);
+    /**
+     * 목록의 기술 이름을 한 번의 IN 쿼리로 조회
+     */
+    private void fillSkills(List<PortfolioSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
 
-        verifiedPortfolio.setLikesCount(verifiedPortfolio.getLikesCount()+number);
+        Map<Long, PortfolioSummary> summaryById = summaries.stream()
+                .collect(Collectors.toMap(PortfolioSummary::getPortfolioId, Function.identity()));
 
-        portfolioRepository.save(verifiedPortfolio);
+        portfolioRepository.findSkillNames(summaryById.keySet())
+                .forEach(skill -> summaryById.get(skill.getPortfolioId()).getSkills().add(skill.getSkillName()));
     }
 }
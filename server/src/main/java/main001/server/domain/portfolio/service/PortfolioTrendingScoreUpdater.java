@@ -0,0 +1,97 @@
+package main001.server.domain.portfolio.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import main001.server.domain.portfolio.index.TrendingScore;
+import main001.server.domain.portfolio.repository.PortfolioRepository;
+import main001.server.domain.portfolio.repository.PortfolioTrendingSource;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 급상승(trending) 점수 갱신 작업 (계산식은 TrendingScore)
+ * 점수는 시간이 지나도 다시 계산할 필요가 없으므로 좋아요/조회수가 바뀐 포트폴리오만 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioTrendingScoreUpdater {
+    private static final int BATCH_SIZE = 500;
+    private static final String UPDATE_SQL = "UPDATE portfolio SET trending_score = ? WHERE portfolio_id = ?";
+
+    private final PortfolioRepository portfolioRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<Long> changedPortfolioIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 좋아요, 조회수가 변경되었거나 새로 작성된 포트폴리오 등록
+     */
+    public void markChanged(Long portfolioId) {
+        changedPortfolioIds.add(portfolioId);
+    }
+
+    /**
+     * 서버 시작 시 점수가 계산되지 않은 포트폴리오 갱신
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        PageRequest pageable = PageRequest.of(0, BATCH_SIZE, Sort.by("portfolioId"));
+        long lastPortfolioId = 0;
+        Slice<PortfolioTrendingSource> slice;
+        do {
+            slice = portfolioRepository.findTrendingSourcesWithoutScore(lastPortfolioId, pageable);
+            if (!slice.isEmpty()) {
+                save(slice.getContent());
+                lastPortfolioId = slice.getContent().get(slice.getNumberOfElements() - 1).getPortfolioId();
+            }
+        } while (slice.hasNext());
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.trending.update-interval:60000}")
+    public synchronized void update() {
+        List<Long> portfolioIds = new ArrayList<>();
+        Iterator<Long> iterator = changedPortfolioIds.iterator();
+        while (iterator.hasNext()) {
+            portfolioIds.add(iterator.next());
+            iterator.remove();
+        }
+
+        for (int from = 0; from < portfolioIds.size(); from += BATCH_SIZE) {
+            List<Long> batch = portfolioIds.subList(from, Math.min(from + BATCH_SIZE, portfolioIds.size()));
+            try {
+                save(portfolioRepository.findTrendingSources(batch));
+            } catch (DataAccessException e) {
+                log.warn("# Failed to update trending scores : {}", e.getMessage());
+                changedPortfolioIds.addAll(batch);
+            }
+        }
+    }
+
+    private void save(List<PortfolioTrendingSource> sources) {
+        if (sources.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = sources.stream()
+                .map(source -> new Object[]{
+                        TrendingScore.calculate(source.getLikesCount(), source.getViewCount(), source.getCreatedAt()),
+                        source.getPortfolioId()})
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,139 @@
+package main001.server.domain.portfolio.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import main001.server.domain.portfolio.index.PortfolioSortIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포트폴리오 조회수 write-behind 버퍼
+ * 조회 요청은 메모리 카운터만 증가시키고, 일정 주기와 서버 종료 시 누적된 값을 batch UPDATE로 반영한다.
+ */
+@Slf4j
+@Component
+public class PortfolioViewCountBuffer {
+    private static final String FLUSH_SQL = "UPDATE portfolio SET view_count = view_count + ? WHERE portfolio_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PortfolioTrendingScoreUpdater trendingScoreUpdater;
+    private final PortfolioDetailCache detailCache;
+    private final PortfolioSortIndex sortIndex;
+    private final Timer flushTimer;
+    private final Map<Long, PendingViews> pendingViews = new ConcurrentHashMap<>();
+
+    public PortfolioViewCountBuffer(JdbcTemplate jdbcTemplate,
+                                    PortfolioTrendingScoreUpdater trendingScoreUpdater,
+                                    PortfolioDetailCache detailCache,
+                                    PortfolioSortIndex sortIndex,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${portfolio.view-count.flush-interval:5000}") long flushInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.trendingScoreUpdater = trendingScoreUpdater;
+        this.detailCache = detailCache;
+        this.sortIndex = sortIndex;
+        this.flushTimer = Timer.builder("portfolio.view_count.flush")
+                .description("조회수 batch UPDATE 소요 시간")
+                .register(meterRegistry);
+
+        Gauge.builder("portfolio.view_count.flush.interval", () -> flushInterval)
+                .description("조회수 반영 주기")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("portfolio.view_count.buffered", pendingViews, Map::size)
+                .description("조회수 버퍼에 등록된 포트폴리오 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * flush()에서 반영이 끝난 항목을 제거하는 것과 겹치지 않도록 compute 안에서 증가
+     */
+    public void increase(Long portfolioId) {
+        pendingViews.compute(portfolioId, (id, pending) -> {
+            PendingViews views = pending != null ? pending : new PendingViews();
+            views.views.increment();
+            return views;
+        });
+    }
+
+    public void discard(Long portfolioId) {
+        pendingViews.remove(portfolioId);
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영 : 실패 시 다음 주기에 다시 반영된다.
+     */
+    @Scheduled(fixedDelayString = "${portfolio.view-count.flush-interval:5000}")
+    public synchronized void flush() {
+        List<Long> portfolioIds = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        pendingViews.forEach((portfolioId, pending) -> {
+            long delta = pending.views.sum() - pending.flushed;
+            if (delta > 0) {
+                portfolioIds.add(portfolioId);
+                deltas.add(delta);
+                batchArgs.add(new Object[]{delta, portfolioId});
+            }
+        });
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+        int[] updatedRows;
+        try {
+            updatedRows = jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+        } catch (DataAccessException e) {
+            log.warn("# Failed to flush view counts : {}", e.getMessage());
+            return;
+        } finally {
+            sample.stop(flushTimer);
+        }
+
+        for (int i = 0; i < portfolioIds.size(); i++) {
+            Long portfolioId = portfolioIds.get(i);
+            if (updatedRows[i] == 0) {
+                // 삭제되었거나 존재하지 않는 포트폴리오
+                pendingViews.remove(portfolioId);
+                continue;
+            }
+
+            long delta = deltas.get(i);
+            // 반영 중 추가된 조회수가 없으면 버퍼에서 제거
+            pendingViews.computeIfPresent(portfolioId, (id, pending) -> {
+                pending.flushed += delta;
+                return pending.views.sum() == pending.flushed ? null : pending;
+            });
+            trendingScoreUpdater.markChanged(portfolioId);
+            sortIndex.addViewCount(portfolioId, delta);
+            // 캐시된 상세 응답의 조회수가 고정되지 않도록 반영 주기마다 다시 조회
+            detailCache.evict(portfolioId);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static class PendingViews {
+        private final LongAdder views = new LongAdder();
+        // flush()의 computeIfPresent 안에서만 접근
+        private long flushed;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import main001.server.domain.portfoliocomment.dto.PortfolioCommentDto;
 import main001.server.domain.portfoliocomment.entity.PortfolioComment;
 import main001.server.domain.portfoliocomment.service.PortfolioCommentService;
+import main001.server.response.CursorResponseDto;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -12,6 +13,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
 import java.net.URI;
 import java.util.List;
 
@@ -62,6 +64,21 @@ public class PortfolioCommentController {
         return portfolioCommentService.findPortfolioCommentsByPortfolio(portfolioId, page - 1, size);
     }
 
+    @GetMapping(value = "/portfolios/{portfolio_id}", params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorResponseDto<PortfolioCommentDto.Response> getPortfolioCommentsByPortfolio(@PathVariable("portfolio_id") @Positive Long portfolioId,
+                                                                                         @RequestParam String cursor,
+                                                                                         @RequestParam(defaultValue = "10") @Positive int size,
+                                                                                         @RequestParam(defaultValue = "3") @PositiveOrZero int replies) {
+        return portfolioCommentService.findPortfolioCommentsByPortfolio(portfolioId, cursor, size, replies);
+    }
+
+    @GetMapping("/{portfolioComment_id}/replies")
+    @ResponseStatus(HttpStatus.OK)
+    public List<PortfolioCommentDto.Response> getReplies(@PathVariable("portfolioComment_id") @Positive Long portfolioCommentId) {
+        return portfolioCommentService.findReplies(portfolioCommentId);
+    }
+
     @DeleteMapping("/{portfolioComment_id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deletePortfolioComment(@PathVariable("portfolioComment_id") @Positive Long portfolioCommentId) {
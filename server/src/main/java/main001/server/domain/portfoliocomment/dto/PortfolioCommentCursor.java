@@ -0,0 +1,56 @@
+package main001.server.domain.portfoliocomment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import main001.server.domain.portfoliocomment.entity.PortfolioComment;
+import main001.server.exception.BusinessLogicException;
+import main001.server.exception.ExceptionCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 커서 기반 페이지네이션 위치 정보 : (createdAt, portfolioCommentId)
+ * 클라이언트에는 Base64 문자열로 전달된다.
+ */
+@Getter
+@AllArgsConstructor
+public class PortfolioCommentCursor {
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime createdAt;
+    private final Long portfolioCommentId;
+
+    public static PortfolioCommentCursor of(PortfolioComment portfolioComment) {
+        return new PortfolioCommentCursor(portfolioComment.getCreatedAt(), portfolioComment.getPortfolioCommentId());
+    }
+
+    /**
+     * 빈 문자열은 첫 페이지를 의미하며 null을 반환
+     */
+    public static PortfolioCommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            if (parts.length != 2) {
+                throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            }
+
+            return new PortfolioCommentCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + portfolioCommentId;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
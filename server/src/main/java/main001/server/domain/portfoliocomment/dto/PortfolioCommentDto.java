@@ -7,6 +7,7 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class PortfolioCommentDto {
 
@@ -25,11 +26,8 @@ public class PortfolioCommentDto {
         @NotBlank
         private String content;
 
-//        private int depth;
-//
-//        private Long rootCommentId;
-//
-//        private Long parentCommentId;
+        @Positive
+        private Long parentCommentId;
     }
 
     @Getter
@@ -62,12 +60,13 @@ public class PortfolioCommentDto {
         private String userName;
         private String userProfileImg;
         private Long portfolioId;
-//        private Long rootId;
-//        private Long parentId;
-//        private int depth;
+        private Long rootId;
+        private Long parentId;
+        private int depth;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
         private boolean auth;
+        private List<Response> replies;
     }
 
     @Getter
@@ -9,13 +9,12 @@ import main001.server.domain.user.entity.User;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
-import java.util.ArrayList;
-import java.util.List;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_portfolio_comment_portfolio_created", columnList = "portfolioId, createdAt, portfolioCommentId"))
 public class PortfolioComment extends BaseTimeEntity {
 
     @Id
@@ -27,24 +26,25 @@ public class PortfolioComment extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT")
     private String content;
 
-//    private int depth;
-//
-//    @ManyToOne
-//    @JoinColumn(name = "rootId")
-//    private PortfolioComment rootComment;
-//
-//    @ManyToOne
-//    @JoinColumn(name = "parentId")
-//    private PortfolioComment parentComment;
-//
-//    @OneToMany(mappedBy = "parentComment",fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
-//    private List<PortfolioComment> childComments = new ArrayList<>();
+    private int depth;
+
+    /**
+     * 답글 구조 조회는 PortfolioCommentRelation(closure table)으로 처리
+     * 댓글 삭제 순서와 무관하도록 FK 제약은 두지 않는다.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "rootId", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private PortfolioComment rootComment;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parentId", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private PortfolioComment parentComment;
 
     @ManyToOne
     @JoinColumn(name = "userId")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "portfolioId")
     private Portfolio portfolio;
 
@@ -62,11 +62,12 @@ public class PortfolioComment extends BaseTimeEntity {
         }
     }
 
-//    public void setParentComment(PortfolioComment parentComment) {
-//        this.parentComment = parentComment;
-//
-//        if(parentComment != null && !parentComment.getChildComments().contains(this)) {
-//            parentComment.getChildComments().add(this);
-//        }
-//    }
+    /**
+     * 부모 댓글을 기준으로 최상위 댓글과 깊이를 설정
+     */
+    public void setParentComment(PortfolioComment parentComment) {
+        this.parentComment = parentComment;
+        this.rootComment = parentComment.getRootComment() == null ? parentComment : parentComment.getRootComment();
+        this.depth = parentComment.getDepth() + 1;
+    }
 }
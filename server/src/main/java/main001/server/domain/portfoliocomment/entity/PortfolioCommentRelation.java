@@ -0,0 +1,36 @@
+package main001.server.domain.portfoliocomment.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import javax.persistence.*;
+
+/**
+ * 댓글 closure table : 모든 (조상, 자손) 쌍과 그 사이의 깊이를 저장 (자기 자신은 depth 0)
+ * 댓글이 삭제되면 DB에서 함께 삭제된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_comment_relation_ancestor", columnList = "ancestorId, depth, descendantId"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_comment_relation", columnNames = {"ancestorId", "descendantId"}))
+public class PortfolioCommentRelation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long relationId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ancestorId", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private PortfolioComment ancestor;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "descendantId", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private PortfolioComment descendant;
+
+    private int depth;
+}
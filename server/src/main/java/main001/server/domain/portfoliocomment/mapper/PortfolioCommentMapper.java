@@ -22,8 +22,6 @@ public class PortfolioCommentMapper {
         PortfolioComment portfolioComment = new PortfolioComment();
         portfolioComment.setContent(postDto.getContent());
 
-//        portfolioComment.setDepth(postDto.getDepth());
-
         User user = new User();
         user.setUserId(postDto.getUserId());
         portfolioComment.setUser(user);
@@ -32,15 +30,6 @@ public class PortfolioCommentMapper {
         portfolio.setPortfolioId(postDto.getPortfolioId());
         portfolioComment.setPortfolio(portfolio);
 
-//        if(postDto.getParentCommentId()==null) {
-//            portfolioComment.setParentComment(null);
-//        }
-//        else {
-//            PortfolioComment parentComment = new PortfolioComment();
-//            parentComment.setPortfolioCommentId(postDto.getParentCommentId());
-//            portfolioComment.setParentComment(parentComment);
-//        }
-
         return portfolioComment;
     }
 
@@ -67,11 +56,11 @@ public class PortfolioCommentMapper {
                 .userName(portfolioComment.getUser().getName())
                 .userProfileImg(portfolioComment.getUser().getProfileImg())
                 .portfolioId(portfolioComment.getPortfolio().getPortfolioId())
-//                .rootId(portfolioComment.getRootComment()==null ?
-//                        null:portfolioComment.getRootComment().getPortfolioCommentId())
-//                .parentId(portfolioComment.getParentComment()==null ?
-//                        null:portfolioComment.getParentComment().getPortfolioCommentId())
-//                .depth(portfolioComment.getDepth())
+                .rootId(portfolioComment.getRootComment()==null ?
+                        null:portfolioComment.getRootComment().getPortfolioCommentId())
+                .parentId(portfolioComment.getParentComment()==null ?
+                        null:portfolioComment.getParentComment().getPortfolioCommentId())
+                .depth(portfolioComment.getDepth())
                 .createdAt(portfolioComment.getCreatedAt())
                 .updatedAt(portfolioComment.getUpdatedAt())
                 .auth(portfolioComment.getUser().isAuth())
@@ -0,0 +1,10 @@
+package main001.server.domain.portfoliocomment.repository;
+
+/**
+ * 최상위 댓글(ancestorId)과 답글(descendantId) 쌍 projection
+ */
+public interface CommentReply {
+    Long getAncestorId();
+
+    Long getDescendantId();
+}
@@ -0,0 +1,39 @@
+package main001.server.domain.portfoliocomment.repository;
+
+import main001.server.domain.portfoliocomment.entity.PortfolioCommentRelation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PortfolioCommentRelationRepository extends JpaRepository<PortfolioCommentRelation, Long> {
+
+    /**
+     * 새 댓글의 closure 행을 한 번의 INSERT로 저장 : 부모의 모든 조상(depth + 1)과 자기 자신(depth 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO portfolio_comment_relation (ancestor_id, descendant_id, depth) " +
+            "SELECT ancestor_id, :commentId, depth + 1 FROM portfolio_comment_relation WHERE descendant_id = :parentId " +
+            "UNION ALL SELECT :commentId, :commentId, 0", nativeQuery = true)
+    int saveRelations(@Param("commentId") Long commentId, @Param("parentId") Long parentId);
+
+    /**
+     * 자신을 포함한 하위 댓글 id 목록
+     */
+    @Query("SELECT r.descendant.portfolioCommentId FROM PortfolioCommentRelation r WHERE r.ancestor.portfolioCommentId = :ancestorId")
+    List<Long> findSubtreeIds(@Param("ancestorId") Long ancestorId);
+
+    /**
+     * 최상위 댓글별로 먼저 작성된 답글 limit개씩 조회
+     * (ancestor_id, depth, descendant_id) 인덱스 범위만 읽고 ROW_NUMBER로 댓글별 개수를 제한
+     */
+    @Query(value = "SELECT t.ancestor_id AS ancestorId, t.descendant_id AS descendantId FROM (" +
+            "SELECT r.ancestor_id, r.descendant_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY r.ancestor_id ORDER BY r.descendant_id) AS rn " +
+            "FROM portfolio_comment_relation r WHERE r.ancestor_id IN (:rootIds) AND r.depth > 0) t " +
+            "WHERE t.rn <= :limit ORDER BY t.ancestor_id, t.descendant_id", nativeQuery = true)
+    List<CommentReply> findFirstReplies(@Param("rootIds") Collection<Long> rootIds, @Param("limit") int limit);
+}
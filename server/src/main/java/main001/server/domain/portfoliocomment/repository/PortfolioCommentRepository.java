@@ -6,16 +6,53 @@ import main001.server.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface PortfolioCommentRepository extends JpaRepository<PortfolioComment, Long> {
     Page<PortfolioComment> findByUser(User user, Pageable pageable);
     Page<PortfolioComment> findByPortfolio(Portfolio portfolio, Pageable pageable);
 
+    /**
+     * 커서 기반 최상위 댓글 조회 : 최신순, count 쿼리 없음
+     */
+    @Query("SELECT c FROM PortfolioComment c JOIN FETCH c.user " +
+            "WHERE c.portfolio.portfolioId = :portfolioId AND c.rootComment IS NULL " +
+            "ORDER BY c.createdAt DESC, c.portfolioCommentId DESC")
+    List<PortfolioComment> findFirstPageByPortfolioId(@Param("portfolioId") Long portfolioId, Pageable pageable);
+
+    @Query("SELECT c FROM PortfolioComment c JOIN FETCH c.user " +
+            "WHERE c.portfolio.portfolioId = :portfolioId AND c.rootComment IS NULL " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.portfolioCommentId < :portfolioCommentId)) " +
+            "ORDER BY c.createdAt DESC, c.portfolioCommentId DESC")
+    List<PortfolioComment> findNextPageByPortfolioId(@Param("portfolioId") Long portfolioId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("portfolioCommentId") Long portfolioCommentId,
+                                                     Pageable pageable);
+
+    /**
+     * closure table로 하위 댓글 전체를 한 번에 조회
+     */
+    @Query("SELECT c FROM PortfolioComment c JOIN FETCH c.user " +
+            "WHERE c.portfolioCommentId IN (SELECT r.descendant.portfolioCommentId FROM PortfolioCommentRelation r " +
+            "WHERE r.ancestor.portfolioCommentId = :ancestorId AND r.depth > 0) " +
+            "ORDER BY c.depth, c.portfolioCommentId")
+    List<PortfolioComment> findDescendants(@Param("ancestorId") Long ancestorId);
+
+    @Query("SELECT c FROM PortfolioComment c JOIN FETCH c.user WHERE c.portfolioCommentId IN :portfolioCommentIds")
+    List<PortfolioComment> findAllWithUserByIdIn(@Param("portfolioCommentIds") Collection<Long> portfolioCommentIds);
+
+    @Modifying
+    @Query("DELETE FROM PortfolioComment c WHERE c.portfolioCommentId IN :portfolioCommentIds")
+    int deleteAllByIdIn(@Param("portfolioCommentIds") Collection<Long> portfolioCommentIds);
+
 //    @Query("SELECT c " +
 //            "FROM PortfolioComment c " +
 //            "JOIN PortfolioCommentRelation cr ON c = cr.descendant " +
@@ -3,15 +3,19 @@ package main001.server.domain.portfoliocomment.service;
 import lombok.RequiredArgsConstructor;
 import main001.server.domain.portfolio.entity.Portfolio;
 import main001.server.domain.portfolio.service.PortfolioService;
+import main001.server.domain.portfoliocomment.dto.PortfolioCommentCursor;
 import main001.server.domain.portfoliocomment.dto.PortfolioCommentDto;
 import main001.server.domain.portfoliocomment.entity.PortfolioComment;
 import main001.server.domain.portfoliocomment.mapper.PortfolioCommentMapper;
+import main001.server.domain.portfoliocomment.repository.CommentReply;
+import main001.server.domain.portfoliocomment.repository.PortfolioCommentRelationRepository;
 import main001.server.domain.portfoliocomment.repository.PortfolioCommentRepository;
 import main001.server.domain.user.entity.User;
 import main001.server.domain.user.service.UserService;
 import main001.server.domain.utils.CurrentUserIdFinder;
 import main001.server.exception.BusinessLogicException;
 import main001.server.exception.ExceptionCode;
+import main001.server.response.CursorResponseDto;
 import main001.server.response.PageInfo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -21,7 +25,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -30,6 +37,7 @@ public class PortfolioCommentService {
 
     private final PortfolioCommentMapper portfolioCommentMapper;
     private final PortfolioCommentRepository portfolioCommentRepository;
+    private final PortfolioCommentRelationRepository relationRepository;
     private final UserService userService;
     private final PortfolioService portfolioService;
 
@@ -39,50 +47,22 @@ public class PortfolioCommentService {
      * @return
      */
     public PortfolioCommentDto.Response createPortfolioComment(PortfolioCommentDto.Post postDto) {
-        PortfolioComment portfolioComment = portfolioCommentMapper.postToEntity(postDto);
-
-//        if(postDto.getRootCommentId()==null) {
-//            portfolioComment.setRootComment(null);
-//        }
-//        else {
-//            PortfolioComment verifiedRootComment = findVerifiedPortfolioComment(postDto.getRootCommentId());
-//            portfolioComment.setRootComment(verifiedRootComment);
-//        }
-//
-//        if(postDto.getParentCommentId()==null) {
-//            portfolioComment.setParentComment(null);
-//        }
-//        else {
-//            PortfolioComment verifiedParentComment = findVerifiedPortfolioComment(postDto.getParentCommentId());
-//            portfolioComment.setParentComment(verifiedParentComment);
-//        }
-        PortfolioComment savedComment = portfolioCommentRepository.save(setUserAndPortfolio(portfolioComment));
-
-//        saveCommentRelations(portfolioComment, portfolioComment);
+        PortfolioComment portfolioComment = setUserAndPortfolio(portfolioCommentMapper.postToEntity(postDto));
+
+        if(postDto.getParentCommentId() != null) {
+            PortfolioComment parentComment = findVerifiedPortfolioComment(postDto.getParentCommentId());
+            if(!parentComment.getPortfolio().getPortfolioId().equals(portfolioComment.getPortfolio().getPortfolioId())) {
+                throw new BusinessLogicException(ExceptionCode.COMMENT_NOT_FOUND);
+            }
+            portfolioComment.setParentComment(parentComment);
+        }
+
+        PortfolioComment savedComment = portfolioCommentRepository.save(portfolioComment);
+        relationRepository.saveRelations(savedComment.getPortfolioCommentId(), postDto.getParentCommentId());
 
         return portfolioCommentMapper.entityToResponse(savedComment);
     }
 
-//    private void saveCommentRelations(PortfolioComment ancestorComment, PortfolioComment descendantComment) {
-//        Deque<PortfolioComment> stack = new ArrayDeque<>();
-//        stack.push(ancestorComment);
-//
-//        while (!stack.isEmpty()) {
-//            PortfolioComment currentComment = stack.pop();
-//
-//            PortfolioCommentRelation relation = new PortfolioCommentRelation();
-//            relation.setAncestor(currentComment);
-//            relation.setDescendant(descendantComment);
-//            relation.setDepth(descendantComment.getDepth()-currentComment.getDepth()); // 부모 댓글의 깊이에 1을 더한 값으로 설정
-//
-//            relationRepository.save(relation);
-//
-//            if(currentComment.getParentComment()!=null) {
-//                stack.push(currentComment.getParentComment());
-//            }
-//        }
-//    }
-
     /**
      * 포트폴리오 댓글을 수정하는 메소드
      * @param patchDto
@@ -150,15 +130,86 @@ public class PortfolioCommentService {
                 ));
     }
 
+    /**
+     * 커서 기반 최상위 댓글 조회 : portfolioId로 바로 조회하고 size + 1개로 다음 페이지 존재 여부를 판단
+     * 각 댓글에는 먼저 작성된 답글을 replies개까지 함께 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDto<PortfolioCommentDto.Response> findPortfolioCommentsByPortfolio(Long portfolioId, String cursor, int size, int replies) {
+        PortfolioCommentCursor current = PortfolioCommentCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<PortfolioComment> comments = current == null
+                ? portfolioCommentRepository.findFirstPageByPortfolioId(portfolioId, limit)
+                : portfolioCommentRepository.findNextPageByPortfolioId(
+                        portfolioId, current.getCreatedAt(), current.getPortfolioCommentId(), limit);
+
+        String nextCursor = null;
+        if (comments.size() > size) {
+            comments = comments.subList(0, size);
+            nextCursor = PortfolioCommentCursor.of(comments.get(size - 1)).encode();
+        }
+
+        List<PortfolioCommentDto.Response> content = comments.stream()
+                .map(portfolioCommentMapper::entityToResponse)
+                .collect(Collectors.toList());
+
+        if (replies > 0 && !content.isEmpty()) {
+            fillReplies(content, replies);
+        }
+
+        return new CursorResponseDto<>(content, nextCursor);
+    }
+
+    /**
+     * 하위 댓글 전체 조회 : 깊이, 작성 순으로 정렬
+     */
+    @Transactional(readOnly = true)
+    public List<PortfolioCommentDto.Response> findReplies(Long portfolioCommentId) {
+        findVerifiedPortfolioComment(portfolioCommentId);
+
+        return portfolioCommentRepository.findDescendants(portfolioCommentId).stream()
+                .map(portfolioCommentMapper::entityToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 최상위 댓글별 답글 id를 한 번에 조회한 뒤, 답글 본문을 작성자와 함께 한 번에 조회하여 채움
+     */
+    private void fillReplies(List<PortfolioCommentDto.Response> roots, int replies) {
+        List<Long> rootIds = roots.stream()
+                .map(PortfolioCommentDto.Response::getPortfolioCommentId)
+                .collect(Collectors.toList());
+
+        List<CommentReply> replyIds = relationRepository.findFirstReplies(rootIds, replies);
+        if (replyIds.isEmpty()) {
+            roots.forEach(root -> root.setReplies(List.of()));
+            return;
+        }
+
+        Map<Long, PortfolioComment> commentsById = portfolioCommentRepository.findAllWithUserByIdIn(replyIds.stream()
+                        .map(CommentReply::getDescendantId)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(PortfolioComment::getPortfolioCommentId, Function.identity()));
+
+        Map<Long, List<PortfolioCommentDto.Response>> repliesByRoot = replyIds.stream()
+                .filter(reply -> commentsById.containsKey(reply.getDescendantId()))
+                .collect(Collectors.groupingBy(CommentReply::getAncestorId,
+                        Collectors.mapping(reply -> portfolioCommentMapper.entityToResponse(commentsById.get(reply.getDescendantId())),
+                                Collectors.toList())));
+
+        roots.forEach(root -> root.setReplies(repliesByRoot.getOrDefault(root.getPortfolioCommentId(), List.of())));
+    }
+
     public void deletePortfolioComment(Long portfolioCommentId) {
-        PortfolioComment portfolioComment = findVerifiedPortfolioComment(portfolioCommentId);
-
-//        List<PortfolioComment> commentsToDelete = relationRepository.findAllByAncestor(portfolioComment);
-//
-//        for(PortfolioComment comment : commentsToDelete) {
-//            relationRepository.deleteByAncestor(comment);
-//        }
-        portfolioCommentRepository.deleteById(portfolioCommentId);
+        findVerifiedPortfolioComment(portfolioCommentId);
+
+        // 하위 댓글까지 함께 삭제 (closure 행은 DB에서 함께 삭제됨)
+        List<Long> subtreeIds = relationRepository.findSubtreeIds(portfolioCommentId);
+        if(subtreeIds.isEmpty()) {
+            subtreeIds = List.of(portfolioCommentId);
+        }
+        portfolioCommentRepository.deleteAllByIdIn(subtreeIds);
     }
 
     private PortfolioComment findVerifiedPortfolioComment(Long portfolioCommentId) {
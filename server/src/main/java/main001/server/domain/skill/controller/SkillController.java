@@ -2,19 +2,26 @@ package main001.server.domain.skill.controller;
 
 import lombok.RequiredArgsConstructor;
 import main001.server.domain.skill.service.SkillService;
+import main001.server.domain.skill.service.SkillSuggester;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
 import java.util.List;
 
 @RestController
 @RequestMapping("/skills")
 @RequiredArgsConstructor
+@Validated
 public class SkillController {
 
     private final SkillService skillService;
+    private final SkillSuggester skillSuggester;
 
     @GetMapping
     public ResponseEntity getAllSkills() {
@@ -22,4 +29,12 @@ public class SkillController {
 
         return ResponseEntity.ok().body(allSkills);
     }
+
+    @GetMapping("/suggest")
+    public ResponseEntity suggestSkills(@RequestParam String q,
+                                        @RequestParam(defaultValue = "10") @Positive @Max(50) int size) {
+        List<String> skills = skillSuggester.suggest(q, size);
+
+        return ResponseEntity.ok().body(skills);
+    }
 }
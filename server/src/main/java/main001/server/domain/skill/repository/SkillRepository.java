@@ -3,9 +3,13 @@ package main001.server.domain.skill.repository;
 import main001.server.domain.skill.entity.Skill;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SkillRepository extends JpaRepository<Skill,Long> {
 
     Optional<Skill> findBySkillId(String skillId);
+
+    List<Skill> findBySkillIdIn(Collection<String> skillIds);
 }
@@ -0,0 +1,13 @@
+package main001.server.domain.skill.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SkillFacet {
+
+    private String skillName;
+
+    private long count;
+}
@@ -0,0 +1,122 @@
+package main001.server.domain.skill.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import main001.server.domain.skill.entity.Skill;
+import main001.server.domain.skill.repository.SkillRepository;
+import main001.server.exception.BusinessLogicException;
+import main001.server.exception.ExceptionCode;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기술 목록 스냅샷
+ * 기술 목록은 거의 바뀌지 않으므로 정규화된 skillId -> Skill을 메모리에 두고 조회한다.
+ * 스냅샷에 없는 기술만 IN 쿼리 한 번으로 조회하여 스냅샷에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillCatalog {
+
+    private final SkillRepository skillRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+
+    /**
+     * 기술 이름 정규화 : 공백 제거 후 대문자
+     */
+    public static String normalize(String skill) {
+        return skill.replace(" ", "").toUpperCase();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${skill.catalog.refresh-interval:600000}",
+            initialDelayString = "${skill.catalog.refresh-interval:600000}")
+    public synchronized void refresh() {
+        snapshot = new Snapshot(skillRepository.findAll());
+
+        log.info("# Skill catalog loaded : {} skills", snapshot.skillsById.size());
+    }
+
+    public Skill get(String skill) {
+        return resolveAll(List.of(skill)).get(0);
+    }
+
+    /**
+     * 기술 이름 목록을 입력 순서대로 Skill로 변환
+     */
+    public List<Skill> resolveAll(Collection<String> skills) {
+        Snapshot current = snapshot;
+
+        List<String> skillIds = skills.stream()
+                .map(SkillCatalog::normalize)
+                .collect(Collectors.toList());
+
+        Set<String> missing = skillIds.stream()
+                .filter(skillId -> !current.skillsById.containsKey(skillId))
+                .collect(Collectors.toSet());
+
+        Map<String, Skill> skillsById = missing.isEmpty() ? current.skillsById : merge(missing);
+
+        List<Skill> result = new ArrayList<>(skillIds.size());
+        for (String skillId : skillIds) {
+            Skill skill = skillsById.get(skillId);
+            if (skill == null) {
+                throw new BusinessLogicException(ExceptionCode.SKILL_NOT_FOUND);
+            }
+            result.add(skill);
+        }
+
+        return result;
+    }
+
+    public List<String> getNames() {
+        return snapshot.names;
+    }
+
+    public List<Skill> getSkills() {
+        return snapshot.skills;
+    }
+
+    /**
+     * 스냅샷에 없는 기술을 조회하여 새 스냅샷으로 교체
+     */
+    private synchronized Map<String, Skill> merge(Set<String> missing) {
+        List<Skill> found = skillRepository.findBySkillIdIn(missing);
+        if (found.isEmpty()) {
+            return snapshot.skillsById;
+        }
+
+        Map<String, Skill> merged = new LinkedHashMap<>(snapshot.skillsById);
+        found.forEach(skill -> merged.put(skill.getSkillId(), skill));
+        snapshot = new Snapshot(merged.values());
+
+        return snapshot.skillsById;
+    }
+
+    private static class Snapshot {
+        private final List<Skill> skills;
+        private final Map<String, Skill> skillsById;
+        private final List<String> names;
+
+        private Snapshot(Collection<Skill> skills) {
+            this.skills = List.copyOf(skills);
+            this.skillsById = skills.stream()
+                    .collect(Collectors.toUnmodifiableMap(Skill::getSkillId, Function.identity()));
+            this.names = skills.stream()
+                    .map(Skill::getName)
+                    .collect(Collectors.toUnmodifiableList());
+        }
+    }
+}
@@ -3,38 +3,30 @@ package main001.server.domain.skill.service;
 import lombok.RequiredArgsConstructor;
 import main001.server.domain.skill.entity.PortfolioSkill;
 import main001.server.domain.skill.entity.Skill;
-import main001.server.domain.skill.repository.SkillRepository;
-import main001.server.exception.BusinessLogicException;
-import main001.server.exception.ExceptionCode;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class SkillService {
 
-    private final SkillRepository skillRepository;
+    private final SkillCatalog skillCatalog;
 
     public Skill findById(String skillId) {
-        Optional<Skill> bySkillId = skillRepository.findBySkillId(skillId);
-
-        return bySkillId.orElseThrow(
-                () -> new BusinessLogicException(ExceptionCode.SKILL_NOT_FOUND)
-        );
+        return skillCatalog.get(skillId);
     }
 
+    /**
+     * 기술 목록은 SkillCatalog에서 한 번에 변환 (스냅샷에 없는 기술만 DB 조회)
+     */
     public List<PortfolioSkill> createPortfolioSkillList(List<String> skills) {
         List<PortfolioSkill> result = new ArrayList<>(skills.size());
 
-        for(String skill : skills) {
-            Skill findSkill= skillRepository.findBySkillId(skill.replace(" ", "").toUpperCase())
-                    .orElseThrow(() -> new BusinessLogicException(ExceptionCode.SKILL_NOT_FOUND));
+        for(Skill findSkill : skillCatalog.resolveAll(skills)) {
             PortfolioSkill portfolioSkill = new PortfolioSkill();
             portfolioSkill.setSkill(findSkill);
 
@@ -45,22 +37,10 @@ public class SkillService {
     }
 
     public String findSkill(String skill) {
-        return findById(
-                skill.replace(" ","").toUpperCase())
-                .getSkillId();
+        return findById(skill).getSkillId();
     }
 
     public List<String> findAllSkills() {
-        List<Skill> skills = skillRepository.findAll();
-        List<String> response = convertSkillToString(skills);
-        return response;
-    }
-
-    private List<String> convertSkillToString(List<Skill> skills) {
-        List<String> result = skills.stream()
-                .map(skill -> skill.getName())
-                .collect(Collectors.toList());
-
-        return result;
+        return skillCatalog.getNames();
     }
 }
@@ -0,0 +1,121 @@
+package main001.server.domain.skill.service;
+
+import main001.server.domain.portfolio.index.PortfolioSkillIndex;
+import main001.server.domain.skill.entity.Skill;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 기술 자동완성 : 정규화된 기술 이름/별칭의 prefix trie
+ * 각 노드에 하위 기술 목록을 미리 모아 두어 조회는 입력 길이만큼만 trie를 따라간다.
+ * 결과는 기술을 사용하는 포트폴리오 수가 많은 순으로 정렬한다.
+ */
+@Component
+public class SkillSuggester {
+
+    private final SkillCatalog skillCatalog;
+    private final PortfolioSkillIndex portfolioSkillIndex;
+    private final Map<String, String> aliases = new HashMap<>();
+
+    private volatile Trie trie = new Trie(Collections.emptyList(), Collections.emptyMap());
+
+    /**
+     * @param aliases 별칭=skillId 목록 ex) JS=JAVASCRIPT
+     */
+    public SkillSuggester(SkillCatalog skillCatalog,
+                          PortfolioSkillIndex portfolioSkillIndex,
+                          @Value("${skill.suggest.aliases:}") String[] aliases) {
+        this.skillCatalog = skillCatalog;
+        this.portfolioSkillIndex = portfolioSkillIndex;
+
+        for (String alias : aliases) {
+            String[] pair = alias.split("=");
+            if (pair.length == 2) {
+                this.aliases.put(SkillCatalog.normalize(pair[0]), SkillCatalog.normalize(pair[1]));
+            }
+        }
+    }
+
+    public List<String> suggest(String query, int size) {
+        Trie current = currentTrie();
+        Node node = current.find(SkillCatalog.normalize(query));
+        if (node == null) {
+            return Collections.emptyList();
+        }
+
+        return node.skills.stream()
+                .sorted(Comparator.comparingLong((Skill skill) -> portfolioSkillIndex.countUsage(skill.getSkillId())).reversed()
+                        .thenComparing(Skill::getName))
+                .limit(size)
+                .map(Skill::getName)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 기술 목록 스냅샷이 바뀌었으면 trie를 다시 생성
+     */
+    private Trie currentTrie() {
+        Trie current = trie;
+        List<Skill> skills = skillCatalog.getSkills();
+        if (current.source != skills) {
+            current = new Trie(skills, aliases);
+            trie = current;
+        }
+        return current;
+    }
+
+    private static class Trie {
+        private final List<Skill> source;
+        private final Node root = new Node();
+
+        private Trie(List<Skill> skills, Map<String, String> aliases) {
+            this.source = skills;
+
+            Map<String, Skill> skillsById = new HashMap<>();
+            for (Skill skill : skills) {
+                skillsById.put(skill.getSkillId(), skill);
+                insert(skill.getSkillId(), skill);
+
+                // 여러 단어로 된 기술은 각 단어로도 검색 ex) "React Native" -> NATIVE
+                for (String word : skill.getName().trim().split("\\s+")) {
+                    insert(SkillCatalog.normalize(word), skill);
+                }
+            }
+
+            aliases.forEach((alias, skillId) -> {
+                Skill skill = skillsById.get(skillId);
+                if (skill != null) {
+                    insert(alias, skill);
+                }
+            });
+        }
+
+        private void insert(String key, Skill skill) {
+            Node node = root;
+            node.skills.add(skill);
+            for (char c : key.toCharArray()) {
+                node = node.children.computeIfAbsent(c, k -> new Node());
+                node.skills.add(skill);
+            }
+        }
+
+        private Node find(String prefix) {
+            Node node = root;
+            for (char c : prefix.toCharArray()) {
+                node = node.children.get(c);
+                if (node == null) {
+                    return null;
+                }
+            }
+            return node;
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Skill> skills = new HashSet<>();
+    }
+}
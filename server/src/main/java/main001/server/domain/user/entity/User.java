@@ -87,7 +87,7 @@ public class User extends BaseTimeEntity {
     private ProfileImgAttachment profileImgAttachment = new ProfileImgAttachment();
 
     @OneToOne(mappedBy = "user", cascade = CascadeType.PERSIST)
-    private RefreshToken refreshToken = new RefreshToken();
+    private RefreshToken refreshToken;
 
     public User(String email, String name, String profileImg, String gitLink, String blogLink, JobStatus jobStatus, String about) {
         this.email = email;
@@ -0,0 +1,93 @@
+package main001.server.domain.user.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import main001.server.domain.user.repository.UserName;
+import main001.server.domain.user.repository.UserRepository;
+import main001.server.domain.utils.HangulUtils;
+import main001.server.domain.utils.NGramIndex;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 유저 이름 n-gram -> userId 색인
+ * 한글 이름의 일부 음절이나 초성으로도 검색할 수 있도록 LIKE 없이 부분 문자열 검색을 처리한다.
+ * 재구성은 새 색인을 만든 뒤 참조만 교체하고, 변경은 재구성과 겹치지 않도록 같은 잠금으로 직렬화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserNameIndex {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+
+    private volatile NGramIndex<Long> names = new NGramIndex<>();
+    private volatile NGramIndex<Long> chosungs = new NGramIndex<>();
+
+    /**
+     * 서버 시작 시 전체 유저 이름으로 색인을 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        NGramIndex<Long> rebuiltNames = new NGramIndex<>();
+        NGramIndex<Long> rebuiltChosungs = new NGramIndex<>();
+
+        PageRequest pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("userId"));
+        Slice<UserName> slice;
+        do {
+            slice = userRepository.findAllNames(pageable);
+            slice.stream()
+                    .filter(user -> user.getName() != null)
+                    .forEach(user -> {
+                        rebuiltNames.put(user.getUserId(), normalize(user.getName()));
+                        rebuiltChosungs.put(user.getUserId(), HangulUtils.toChosung(user.getName()));
+                    });
+            pageable = pageable.next();
+        } while (slice.hasNext());
+
+        names = rebuiltNames;
+        chosungs = rebuiltChosungs;
+
+        log.info("# User name index rebuilt : {} users, {} grams", rebuiltNames.size(), rebuiltNames.gramCount());
+    }
+
+    public synchronized void index(Long userId, String name) {
+        if (name == null) {
+            remove(userId);
+            return;
+        }
+
+        names.put(userId, normalize(name));
+        chosungs.put(userId, HangulUtils.toChosung(name));
+    }
+
+    public synchronized void remove(Long userId) {
+        names.remove(userId);
+        chosungs.remove(userId);
+    }
+
+    /**
+     * 이름에 query가 포함된 userId 목록
+     */
+    public Set<Long> search(String query) {
+        return names.search(normalize(query));
+    }
+
+    /**
+     * 이름의 초성에 query(초성)가 포함된 userId 목록
+     */
+    public Set<Long> searchChosung(String query) {
+        return chosungs.search(HangulUtils.toChosung(query));
+    }
+
+    private String normalize(String name) {
+        return name.replaceAll("\\s+", "").toLowerCase();
+    }
+}
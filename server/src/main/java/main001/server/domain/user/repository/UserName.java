@@ -0,0 +1,10 @@
+package main001.server.domain.user.repository;
+
+/**
+ * 유저 이름 색인용 projection
+ */
+public interface UserName {
+    Long getUserId();
+
+    String getName();
+}
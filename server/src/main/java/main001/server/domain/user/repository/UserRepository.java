@@ -1,7 +1,10 @@
 package main001.server.domain.user.repository;
 
 import main001.server.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
@@ -9,4 +12,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByOauthId(String oauthId);
+
+    @Query("SELECT u.userId AS userId, u.name AS name FROM User u")
+    Slice<UserName> findAllNames(Pageable pageable);
 }
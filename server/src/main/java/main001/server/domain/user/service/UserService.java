@@ -4,12 +4,17 @@ import lombok.RequiredArgsConstructor;
 import main001.server.amazon.s3.service.S3Service;
 import main001.server.domain.attachment.image.entity.ProfileImgAttachment;
 import main001.server.domain.attachment.image.repository.ProfileImgRepository;
+import main001.server.domain.likes.service.LikedPortfolioCache;
+import main001.server.domain.portfolio.entity.Portfolio;
+import main001.server.domain.portfolio.service.PortfolioDetailCache;
+import main001.server.domain.portfolio.service.PortfolioService;
 import main001.server.domain.skill.service.SkillService;
 import main001.server.domain.user.entity.User;
+import main001.server.domain.user.index.UserNameIndex;
 import main001.server.domain.user.repository.UserRepository;
+import main001.server.domain.utils.TransactionCallbacks;
 import main001.server.exception.BusinessLogicException;
 import main001.server.exception.ExceptionCode;
-import main001.server.security.jwt.JwtTokenizer;
 import main001.server.security.service.SecurityService;
 import main001.server.security.utils.CustomAuthorityUtils;
 import org.springframework.data.domain.*;
@@ -23,6 +28,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,8 +39,11 @@ public class UserService {
     private final S3Service s3Service;
     private final SecurityService securityService;
     private final CustomAuthorityUtils authorityUtils;
-    private final JwtTokenizer jwtTokenizer;
     private final PasswordEncoder passwordEncoder;
+    private final PortfolioDetailCache portfolioDetailCache;
+    private final UserNameIndex userNameIndex;
+    private final PortfolioService portfolioService;
+    private final LikedPortfolioCache likedPortfolioCache;
 
     private final String DEFAULT_PROFILE_IMG = "https://main001-portfolio.s3.ap-northeast-2.amazonaws.com/default/default_profileImg.png";
 
@@ -50,6 +59,7 @@ public class UserService {
         }
 
         User savedUser = userRepository.save(user);
+        TransactionCallbacks.afterCommit(() -> userNameIndex.index(savedUser.getUserId(), savedUser.getName()));
         return savedUser;
     }
 
@@ -69,6 +79,7 @@ public class UserService {
         user.setRoles(roles);
 
         User savedUser = userRepository.save(user);
+        TransactionCallbacks.afterCommit(() -> userNameIndex.index(savedUser.getUserId(), savedUser.getName()));
         return savedUser;
     }
 
@@ -96,6 +107,10 @@ public class UserService {
         Optional.ofNullable(user.getAbout()).ifPresent(about -> findUser.setAbout(about));
 
         User saved = userRepository.save(findUser);
+        TransactionCallbacks.afterCommit(() -> {
+            portfolioDetailCache.evictByUser(saved.getUserId());
+            userNameIndex.index(saved.getUserId(), saved.getName());
+        });
 
 //        addSkills(saved, skills);
 
@@ -111,7 +126,18 @@ public class UserService {
 
         securityService.deleteRefreshToken(userId);
 
+        // 함께 삭제되는 포트폴리오와 좋아요도 커밋 후 메모리 색인/캐시에서 제거
+        List<Long> portfolioIds = findUser.getPortfolios().stream()
+                .map(Portfolio::getPortfolioId)
+                .collect(Collectors.toList());
+
         userRepository.delete(findUser);
+        TransactionCallbacks.afterCommit(() -> {
+            portfolioIds.forEach(portfolioService::removeFromIndexes);
+            portfolioDetailCache.evictByUser(userId);
+            userNameIndex.remove(userId);
+            likedPortfolioCache.invalidate(userId);
+        });
     }
 
     /**
@@ -202,9 +228,6 @@ public class UserService {
         return profileImgUrl;
     }
 
-    public Long findByToken(String token) {
-        return jwtTokenizer.getUserId(token);
-    }
 //    public void addSkills(User user,List<String> skills) {
 //        for(int i = user.getSkills().size()-1; i>=0; i--) {
 //            user.deleteSkill(user.getSkills().get(i));
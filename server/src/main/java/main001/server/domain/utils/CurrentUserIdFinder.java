@@ -1,47 +1,42 @@
 package main001.server.domain.utils;
 
-import io.jsonwebtoken.*;
-import main001.server.config.EnvConfig;
 import main001.server.exception.BusinessLogicException;
 import main001.server.exception.ExceptionCode;
+import main001.server.security.userdetails.AuthenticatedUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import javax.servlet.http.HttpServletRequest;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 public class CurrentUserIdFinder {
 
+    /**
+     * JwtVerificationFilter에서 검증한 인증 정보를 사용하므로 JWT를 다시 파싱하지 않음
+     */
     public static Long getCurrentUserId() {
-        Integer userIdFromToken;
+        AuthenticatedUser authenticatedUser = getAuthenticatedUser();
+        if (authenticatedUser != null) {
+            return authenticatedUser.getUserId();
+        }
 
         HttpServletRequest request = ((ServletRequestAttributes) Objects.requireNonNull(RequestContextHolder.getRequestAttributes())).getRequest();
 
-        String secretKey = EnvConfig.getSecretKey();
-
-        String authorization = request.getHeader("Authorization");
-
-        if (authorization == null) {
+        if (request.getHeader("Authorization") == null) {
             return null;
         }
 
-        String tokenValue = authorization.replace("Bearer ", ""); // 요청 시 전달한 JWT value
-
-        // JWT에서 추출한 인증 정보를 불러오기 위한 JWT Parser
-        JwtParser jwtParser = Jwts.parserBuilder()
-                .setSigningKey(secretKey.getBytes())
-                .build();
+        // 토큰은 전달됐지만 필터에서 검증에 실패한 경우
+        throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_AVAILABLE);
+    }
 
-        try {
-            Jws<Claims> parsedJwt = jwtParser.parseClaimsJws(tokenValue);
-            Map<String, Object> jwtClaims = new HashMap<>(parsedJwt.getBody());
-            userIdFromToken = (Integer) jwtClaims.get("userId");   // JWT에 담겨 있는 인증 서비스로부터 받은 유저 ID 정보
-        } catch (JwtException ex) {
-            // JWT 파싱 실패 시 예외처리
-            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_AVAILABLE);
+    private static AuthenticatedUser getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser) {
+            return (AuthenticatedUser) authentication.getPrincipal();
         }
-        return userIdFromToken.longValue();
+        return null;
     }
 }
@@ -0,0 +1,102 @@
+package main001.server.domain.utils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 문자열 n-gram(1~3글자) -> key 색인
+ * 3글자 이하 검색어는 색인을 바로 조회하고, 더 긴 경우 trigram 교집합 후 실제 포함 여부를 확인한다.
+ * 정규화는 호출하는 쪽에서 처리한다.
+ * 변경 중에도 조회에서 key가 빠지지 않도록 새 n-gram을 먼저 추가한 뒤 이전 n-gram을 제거한다.
+ */
+public class NGramIndex<K> {
+    private static final int MAX_GRAM = 3;
+
+    private final Map<String, Set<K>> postings = new ConcurrentHashMap<>();
+    private final Map<K, String> texts = new ConcurrentHashMap<>();
+
+    public synchronized void put(K key, String text) {
+        if (text == null || text.isEmpty()) {
+            remove(key);
+            return;
+        }
+
+        Set<String> grams = grams(text);
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+
+        String previous = texts.put(key, text);
+        if (previous != null) {
+            Set<String> stale = grams(previous);
+            stale.removeAll(grams);
+            removeGrams(key, stale);
+        }
+    }
+
+    public synchronized void remove(K key) {
+        String text = texts.remove(key);
+        if (text != null) {
+            removeGrams(key, grams(text));
+        }
+    }
+
+    /**
+     * query를 포함하는 문자열의 key 목록
+     */
+    public Set<K> search(String query) {
+        if (query.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        if (query.length() <= MAX_GRAM) {
+            return new HashSet<>(postings.getOrDefault(query, Collections.emptySet()));
+        }
+
+        Set<K> candidates = null;
+        for (int i = 0; i + MAX_GRAM <= query.length(); i++) {
+            Set<K> keys = postings.getOrDefault(query.substring(i, i + MAX_GRAM), Collections.emptySet());
+            if (candidates == null) {
+                candidates = new HashSet<>(keys);
+            } else {
+                candidates.retainAll(keys);
+            }
+
+            if (candidates.isEmpty()) {
+                return candidates;
+            }
+        }
+
+        return candidates.stream()
+                .filter(key -> texts.getOrDefault(key, "").contains(query))
+                .collect(Collectors.toSet());
+    }
+
+    public int size() {
+        return texts.size();
+    }
+
+    public int gramCount() {
+        return postings.size();
+    }
+
+    private void removeGrams(K key, Set<String> grams) {
+        for (String gram : grams) {
+            postings.computeIfPresent(gram, (g, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                grams.add(text.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+}
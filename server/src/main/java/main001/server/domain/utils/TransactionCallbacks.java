@@ -0,0 +1,28 @@
+package main001.server.domain.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 완료 후 실행할 작업 등록
+ * 메모리 색인/캐시는 롤백되지 않으므로 커밋된 뒤에만 반영한다.
+ */
+public class TransactionCallbacks {
+
+    /**
+     * 진행 중인 트랜잭션이 커밋된 뒤 실행 : 트랜잭션이 없으면 바로 실행
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
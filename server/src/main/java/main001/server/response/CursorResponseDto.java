@@ -0,0 +1,16 @@
+package main001.server.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답 : 다음 페이지가 없으면 nextCursor는 null
+ */
+@Getter
+@AllArgsConstructor
+public class CursorResponseDto<T> {
+    private List<T> data;
+    private String nextCursor;
+}
@@ -0,0 +1,19 @@
+package main001.server.response;
+
+import lombok.Getter;
+import main001.server.domain.skill.response.SkillFacet;
+
+import java.util.List;
+
+/**
+ * 검색 결과 전체에 대한 기술별 포트폴리오 수(facets)를 포함한 커서 기반 목록 응답
+ */
+@Getter
+public class FacetCursorResponseDto<T> extends CursorResponseDto<T> {
+    private List<SkillFacet> facets;
+
+    public FacetCursorResponseDto(List<T> data, String nextCursor, List<SkillFacet> facets) {
+        super(data, nextCursor);
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,20 @@
+package main001.server.response;
+
+import lombok.Getter;
+import main001.server.domain.skill.response.SkillFacet;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 검색 결과 전체에 대한 기술별 포트폴리오 수(facets)를 포함한 목록 응답
+ */
+@Getter
+public class FacetMultiResponseDto<T> extends MultiResponseDto<T> {
+    private List<SkillFacet> facets;
+
+    public FacetMultiResponseDto(List<T> data, Page page, List<SkillFacet> facets) {
+        super(data, page);
+        this.facets = facets;
+    }
+}
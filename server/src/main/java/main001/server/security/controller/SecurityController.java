@@ -10,6 +10,7 @@ import main001.server.domain.utils.CurrentUserIdFinder;
 import main001.server.exception.BusinessLogicException;
 import main001.server.exception.ExceptionCode;
 import main001.server.response.SingleResponseDto;
+import main001.server.security.dto.TokenDto;
 import main001.server.security.service.SecurityServiceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -46,16 +47,9 @@ public class SecurityController {
     @ResponseStatus(HttpStatus.OK)
     public void reissueToken(HttpServletRequest request, HttpServletResponse response) {
 
-        Long userId = securityService.verifyToken(request);
+        TokenDto reissuedTokens = securityService.reissueTokens(request);
 
-        if (userId == null) {
-            throw new BusinessLogicException(ExceptionCode.USER_NOT_FOUND);
-        }
-
-        String reissuedAccessToken = securityService.reissueAccessToken(userId);
-        String reissuedRefreshToken = securityService.reissueRefreshToken(userId);
-
-        response.setHeader("Authorization", reissuedAccessToken);
-        response.setHeader("Refresh", reissuedRefreshToken);
+        response.setHeader("Authorization", reissuedTokens.getAccessToken());
+        response.setHeader("Refresh", reissuedTokens.getRefreshToken());
     }
 }
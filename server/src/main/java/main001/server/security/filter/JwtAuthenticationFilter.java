@@ -1,11 +1,13 @@
 package main001.server.security.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import main001.server.config.EnvConfig;
 import main001.server.domain.user.entity.User;
 import main001.server.security.dto.LoginDto;
+import main001.server.security.service.PasswordHashingExecutor;
 import main001.server.security.service.SecurityService;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -27,20 +29,25 @@ import java.net.URI;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
+    // ObjectReader는 immutable, thread-safe이므로 요청마다 ObjectMapper를 만들지 않고 공유
+    private static final ObjectReader LOGIN_READER = new ObjectMapper().readerFor(LoginDto.class);
+
     private final AuthenticationManager authenticationManager;
 
     private final SecurityService securityService;
 
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
     @SneakyThrows
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        LoginDto loginDto = objectMapper.readValue(request.getInputStream(), LoginDto.class);
+        LoginDto loginDto = LOGIN_READER.readValue(request.getInputStream());
 
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword());
 
-        return authenticationManager.authenticate(authenticationToken);
+        // 비밀번호 검증은 전용 스레드 풀에서 실행 (대기열이 가득 차면 LoginRejectedException)
+        return passwordHashingExecutor.authenticate(() -> authenticationManager.authenticate(authenticationToken));
     }
 
     @Override
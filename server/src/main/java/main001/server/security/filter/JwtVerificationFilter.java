@@ -2,11 +2,14 @@ package main001.server.security.filter;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
-import main001.server.security.jwt.JwtTokenizer;
-import main001.server.security.utils.CustomAuthorityUtils;
+import main001.server.exception.BusinessLogicException;
+import main001.server.exception.ExceptionCode;
+import main001.server.security.jwt.TokenBlacklist;
+import main001.server.security.jwt.VerifiedToken;
+import main001.server.security.jwt.VerifiedTokenCache;
+import main001.server.security.utils.TokenDigests;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -15,25 +18,23 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
-import java.util.Map;
 
 public class JwtVerificationFilter extends OncePerRequestFilter {
-    private final JwtTokenizer jwtTokenizer;
-    private final CustomAuthorityUtils authorityUtils;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklist tokenBlacklist;
 
-    public JwtVerificationFilter(JwtTokenizer jwtTokenizer,
-                                 CustomAuthorityUtils authorityUtils) {
-        this.jwtTokenizer = jwtTokenizer;
-        this.authorityUtils = authorityUtils;
+    public JwtVerificationFilter(VerifiedTokenCache verifiedTokenCache,
+                                 TokenBlacklist tokenBlacklist) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenBlacklist = tokenBlacklist;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
         try {
-            Map<String, Object> claims = verifyJws(request);
-            setAuthenticationToContext(claims);
+            VerifiedToken verifiedToken = verifyJws(request);
+            setAuthenticationToContext(verifiedToken);
         } catch (SignatureException se) {
             request.setAttribute("exception", se);
         } catch (ExpiredJwtException ee) {
@@ -52,18 +53,20 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         return authorization == null || !authorization.startsWith("Bearer");
     }
 
-    private Map<String, Object> verifyJws(HttpServletRequest request) {
+    private VerifiedToken verifyJws(HttpServletRequest request) {
         String jws = request.getHeader("Authorization").replace("Bearer ", "");
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-        Map<String, Object> claims = jwtTokenizer.getClaims(jws, base64EncodedSecretKey).getBody();
+        String digest = TokenDigests.digest(jws);
 
-        return claims;
+        // 로그아웃된 토큰
+        if (tokenBlacklist.contains(digest)) {
+            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_AVAILABLE);
+        }
+
+        return verifiedTokenCache.verify(digest, jws);
     }
 
-    private void setAuthenticationToContext(Map<String, Object> claims) {
-        String username = (String) claims.get("username");
-        List<GrantedAuthority> authorities = authorityUtils.createAuthorities((List)claims.get("roles"));
-        Authentication authentication = new UsernamePasswordAuthenticationToken(username, null, authorities);
+    private void setAuthenticationToContext(VerifiedToken verifiedToken) {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(verifiedToken.getPrincipal(), null, verifiedToken.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 }
@@ -0,0 +1,51 @@
+package main001.server.security.handler;
+
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import main001.server.security.jwt.TokenBlacklist;
+import main001.server.security.jwt.VerifiedToken;
+import main001.server.security.jwt.VerifiedTokenCache;
+import main001.server.security.service.SecurityService;
+import main001.server.security.utils.TokenDigests;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 로그아웃 시 Access Token을 만료 시각까지 블랙리스트에 등록하고 Refresh Token 삭제
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JwtLogoutHandler implements LogoutHandler {
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklist tokenBlacklist;
+    private final SecurityService securityService;
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        String authorization = request.getHeader("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer")) {
+            return;
+        }
+
+        String jws = authorization.replace("Bearer ", "");
+        String digest = TokenDigests.digest(jws);
+        try {
+            VerifiedToken verifiedToken = verifiedTokenCache.verify(digest, jws);
+
+            tokenBlacklist.add(digest, verifiedToken.getExpiresAt());
+            verifiedTokenCache.evict(digest);
+
+            Long userId = verifiedToken.getPrincipal().getUserId();
+            if (userId != null) {
+                securityService.deleteRefreshToken(userId);
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 만료되었거나 유효하지 않은 토큰은 등록할 필요 없음
+            log.debug("Logout with unavailable token: {}", e.getMessage());
+        }
+    }
+}
@@ -3,6 +3,8 @@ package main001.server.security.handler;
 import com.google.gson.Gson;
 import lombok.extern.slf4j.Slf4j;
 import main001.server.advice.ErrorResponse;
+import main001.server.security.service.LoginRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
@@ -22,14 +24,21 @@ public class MemberAuthenticationFailureHandler implements AuthenticationFailure
                                         AuthenticationException exception) throws IOException {
         log.error("# Authentication failed: {}", exception.getMessage());
 
-        sendErrorResponse(response);
+        // 로그인 요청이 몰려 검증 대기열이 가득 찬 경우
+        if (exception instanceof LoginRejectedException) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            sendErrorResponse(response, HttpStatus.SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        sendErrorResponse(response, HttpStatus.UNAUTHORIZED);
     }
 
-    private void sendErrorResponse(HttpServletResponse response) throws IOException {
+    private void sendErrorResponse(HttpServletResponse response, HttpStatus status) throws IOException {
         Gson gson = new Gson();
-        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.UNAUTHORIZED);
+        ErrorResponse errorResponse = ErrorResponse.of(status);
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setStatus(status.value());
         response.getWriter().write(gson.toJson(errorResponse, ErrorResponse.class));
     }
 }
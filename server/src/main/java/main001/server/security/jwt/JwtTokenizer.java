@@ -1,22 +1,16 @@
 package main001.server.security.jwt;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.io.Encoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
-import main001.server.config.EnvConfig;
-import main001.server.exception.BusinessLogicException;
-import main001.server.exception.ExceptionCode;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import javax.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
 
 @Component
@@ -33,11 +27,19 @@ public class JwtTokenizer {
     @Value("${jwt.refresh-token-expiration}")
     private int refreshTokenExpirationMinutes;
 
-    private final Map<String, Long> tokenBlackList = new HashMap<>();
+    private Key signingKey;
 
+    private JwtParser jwtParser;
 
-    public String encodeBase64SecretKey(String secretKey) {
-        return Encoders.BASE64.encode(secretKey.getBytes(StandardCharsets.UTF_8));
+    /**
+     * 서명 키와 parser는 요청마다 만들지 않고 시작 시 한 번만 생성 (JwtParser는 thread-safe)
+     */
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     /**
@@ -45,16 +47,13 @@ public class JwtTokenizer {
      */
     public String generateAccessToken(Map<String, Object> claims,
                                       String subject,
-                                      Date expiration,
-                                      String base64SecretKey) {
-        Key key = getKeyFromBase64SecretKey(base64SecretKey);
-
+                                      Date expiration) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(Calendar.getInstance().getTime())
                 .setExpiration(expiration)
-                .signWith(key)
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -62,39 +61,24 @@ public class JwtTokenizer {
      * Refresh Token 생성 메서드 : Access Token이 만료되었을 경우, Access Token을 새로 생성하는 토큰
      */
     public String generateRefreshToken(String subject,
-                                       Date expiration,
-                                       String base64SecretKey) {
-
-        Key key = getKeyFromBase64SecretKey(base64SecretKey);
-
+                                       Date expiration) {
         return Jwts.builder()
                 .setSubject(subject)
                 .setIssuedAt(Calendar.getInstance().getTime())
                 .setExpiration(expiration)
-                .signWith(key)
+                .signWith(signingKey)
                 .compact();
     }
 
-    public Jws<Claims> getClaims(String jws, String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64SecretKey(base64EncodedSecretKey);
-
-        Jws<Claims> claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jws);
-        return claims;
+    public Jws<Claims> getClaims(String jws) {
+        return jwtParser.parseClaimsJws(jws);
     }
 
     /**
      * JWT 검증기능 구현
      */
-    public void verifySignature(String jws, String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64SecretKey(base64EncodedSecretKey);
-
-        Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jws);
+    public void verifySignature(String jws) {
+        jwtParser.parseClaimsJws(jws);
     }
 
     public Date getTokenExpiration(int expirationMinutes) {
@@ -104,57 +88,4 @@ public class JwtTokenizer {
 
         return expiration;
     }
-
-    private Key getKeyFromBase64SecretKey(String base64SecretKey) {
-        byte[] keyBytes = Decoders.BASE64.decode(base64SecretKey);
-        Key key = Keys.hmacShaKeyFor(keyBytes);
-
-        return key;
-    }
-
-    /**
-     * Token을 삭제하기 위한 TokenBlacklist 기능
-     */
-    public void addToTokenBlacklist(String jws) {
-        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes());
-        Long expirationTime = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jws)
-                .getBody().get("refreshTokenExpirationMinutes", Long.class);
-
-        tokenBlackList.put(jws, expirationTime);
-    }
-
-    /**
-     * TokenBlacklist 여부 확인 기능
-     */
-    public boolean isTokenInBlackList(String jws) {
-        if (!tokenBlackList.containsKey(jws)) {
-            return false;
-        }
-
-        long expirationTime = tokenBlackList.get(jws);
-        if (System.currentTimeMillis() > expirationTime) {
-            tokenBlackList.remove(jws);
-            return false;
-        }
-
-        return true;
-    }
-
-    private Claims parseToken(String token) {
-        String key = EnvConfig.getSecretKey();
-        String jws = token.replace("Bearer ", "");
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key.getBytes())
-                    .build()
-                    .parseClaimsJws(jws)
-                    .getBody();
-        } catch (JwtException e) {
-            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_AVAILABLE);
-        }
-    }
-
-    public Long getUserId(String token) {
-        return parseToken(token).get("userId", Long.class);
-    }
 }
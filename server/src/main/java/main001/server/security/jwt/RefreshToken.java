@@ -7,7 +7,12 @@ import main001.server.domain.user.entity.User;
 import javax.persistence.*;
 import java.util.Date;
 
+/**
+ * 토큰 원문 대신 SHA-256 digest(tokenHash)만 저장하고, 유저당 한 행을 갱신(rotation)하여 사용
+ */
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "tokenHash"),
+        indexes = @Index(name = "idx_refresh_token_expired", columnList = "expiredDate"))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -19,14 +24,11 @@ public class RefreshToken extends BaseTimeEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String userIp;
-    private String refreshToken;
+    @Column(length = 64)
+    private String tokenHash;
     private Date expiredDate;
 
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "USER_ID")
     private User user;
-
-    public RefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
 }
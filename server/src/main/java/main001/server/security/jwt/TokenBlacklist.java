@@ -0,0 +1,95 @@
+package main001.server.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃된 Access Token 블랙리스트 (token digest -> 만료 시각)
+ * 조회는 ConcurrentHashMap으로 O(1), 만료된 항목은 만료 시각 순으로 정렬된 DelayQueue에서 꺼내 주기적으로 삭제한다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklist {
+    private final Map<String, Long> expiresAtByDigest = new ConcurrentHashMap<>();
+    private final DelayQueue<ExpiringDigest> expiryQueue = new DelayQueue<>();
+    private final Counter evictionCounter;
+
+    public TokenBlacklist(MeterRegistry meterRegistry) {
+        this.evictionCounter = Counter.builder("jwt.blacklist.evictions")
+                .description("만료되어 블랙리스트에서 삭제된 토큰 수")
+                .register(meterRegistry);
+
+        Gauge.builder("jwt.blacklist.size", expiresAtByDigest, Map::size)
+                .description("블랙리스트에 등록된 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미 만료된 토큰은 검증 단계에서 거부되므로 등록하지 않음
+     */
+    public void add(String digest, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+
+        if (expiresAtByDigest.putIfAbsent(digest, expiresAt) == null) {
+            expiryQueue.add(new ExpiringDigest(digest, expiresAt));
+        }
+    }
+
+    public boolean contains(String digest) {
+        Long expiresAt = expiresAtByDigest.get(digest);
+
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public int size() {
+        return expiresAtByDigest.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.evict-interval:60000}")
+    public void evictExpired() {
+        int evicted = 0;
+        ExpiringDigest expired;
+        while ((expired = expiryQueue.poll()) != null) {
+            if (expiresAtByDigest.remove(expired.digest, expired.expiresAt)) {
+                evicted++;
+            }
+        }
+
+        if (evicted > 0) {
+            evictionCounter.increment(evicted);
+            log.debug("# Token blacklist evicted {} expired tokens", evicted);
+        }
+    }
+
+    private static class ExpiringDigest implements Delayed {
+        private final String digest;
+        private final long expiresAt;
+
+        private ExpiringDigest(String digest, long expiresAt) {
+            this.digest = digest;
+            this.expiresAt = expiresAt;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiresAt, ((ExpiringDigest) other).expiresAt);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package main001.server.security.jwt;
+
+import lombok.Getter;
+import main001.server.security.userdetails.AuthenticatedUser;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 토큰의 claims와 권한 정보
+ */
+@Getter
+public class VerifiedToken {
+    private final Map<String, Object> claims;
+    private final AuthenticatedUser principal;
+    private final List<GrantedAuthority> authorities;
+    private final long expiresAt;
+
+    public VerifiedToken(Map<String, Object> claims, AuthenticatedUser principal, List<GrantedAuthority> authorities, long expiresAt) {
+        this.claims = claims;
+        this.principal = principal;
+        this.authorities = authorities;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAt;
+    }
+}
@@ -0,0 +1,106 @@
+package main001.server.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import main001.server.security.userdetails.AuthenticatedUser;
+import main001.server.security.utils.CustomAuthorityUtils;
+import main001.server.security.utils.TokenDigests;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 Access Token 캐시 (token digest -> claims, 권한)
+ * 같은 토큰으로 반복되는 요청은 HMAC 검증과 claims 파싱을 건너뛰고, 항목은 토큰 만료 시각에 함께 만료된다.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final JwtTokenizer jwtTokenizer;
+    private final CustomAuthorityUtils authorityUtils;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenizer jwtTokenizer,
+                              CustomAuthorityUtils authorityUtils,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-cache.max-size:50000}") long maxSize) {
+        this.jwtTokenizer = jwtTokenizer;
+        this.authorityUtils = authorityUtils;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    /**
+     * 캐시에 없거나 만료된 경우에만 서명을 검증 (검증 실패 시 JwtException 그대로 전달)
+     */
+    public VerifiedToken verify(String jws) {
+        return verify(TokenDigests.digest(jws), jws);
+    }
+
+    public VerifiedToken verify(String digest, String jws) {
+        VerifiedToken verifiedToken = cache.getIfPresent(digest);
+        if (verifiedToken != null && !verifiedToken.isExpired()) {
+            return verifiedToken;
+        }
+
+        verifiedToken = load(jws);
+        cache.put(digest, verifiedToken);
+
+        return verifiedToken;
+    }
+
+    public void evict(String digest) {
+        cache.invalidate(digest);
+    }
+
+    private VerifiedToken load(String jws) {
+        Claims claims = jwtTokenizer.getClaims(jws).getBody();
+
+        List<String> roles = claims.get("roles", List.class);
+        List<GrantedAuthority> authorities = roles == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(authorityUtils.createAuthorities(roles));
+
+        Number userId = claims.get("userId", Number.class);
+        AuthenticatedUser principal = new AuthenticatedUser(
+                userId == null ? null : userId.longValue(),
+                claims.get("username", String.class),
+                roles == null ? Collections.emptyList() : List.copyOf(roles));
+
+        long expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().getTime()
+                : System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(jwtTokenizer.getAccessTokenExpirationMinutes());
+
+        return new VerifiedToken(Collections.unmodifiableMap(new HashMap<>(claims)), principal, authorities, expiresAt);
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, token.getExpiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package main001.server.security.repository;
+
+import java.util.Date;
+
+/**
+ * Refresh Token 검증 및 Access Token 재발급을 위한 projection (권한 개수만큼 행이 조회됨)
+ */
+public interface RefreshTokenOwner {
+    Long getUserId();
+
+    String getEmail();
+
+    String getRole();
+
+    String getUserIp();
+
+    Date getExpiredDate();
+}
@@ -1,17 +1,56 @@
 package main001.server.security.repository;
 
 import main001.server.security.jwt.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    @Query(value = "select r from RefreshToken r where r.user.userId = :userId")
-    RefreshToken findByUserId(Long userId);
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     @Modifying
     @Query(value = "delete from RefreshToken r where r.user.userId = :userId")
     void deleteByUserId(Long userId);
 
-    RefreshToken findByRefreshToken(String refreshToken);
+    /**
+     * token_hash 인덱스로 조회하면서 Access Token 발급에 필요한 유저 정보도 한 번에 조회
+     */
+    @Query(value = "select u.userId as userId, u.email as email, role as role, r.userIp as userIp, r.expiredDate as expiredDate " +
+            "from RefreshToken r join r.user u left join u.roles role where r.tokenHash = :tokenHash")
+    List<RefreshTokenOwner> findOwnerByTokenHash(String tokenHash);
+
+    /**
+     * 유저의 Refresh Token 갱신 (로그인 시 기존 토큰 교체)
+     */
+    @Modifying
+    @Query(value = "update RefreshToken r set r.tokenHash = :tokenHash, r.userIp = :userIp, r.expiredDate = :expiredDate, r.updatedAt = CURRENT_TIMESTAMP " +
+            "where r.user.userId = :userId")
+    int updateByUserId(Long userId, String tokenHash, String userIp, Date expiredDate);
+
+    /**
+     * 재발급 시 사용한 토큰이 아직 저장된 토큰인 경우에만 교체 (동시에 같은 토큰으로 재발급하면 한 요청만 성공)
+     */
+    @Modifying
+    @Query(value = "update RefreshToken r set r.tokenHash = :newTokenHash, r.expiredDate = :expiredDate, r.updatedAt = CURRENT_TIMESTAMP " +
+            "where r.user.userId = :userId and r.tokenHash = :oldTokenHash")
+    int rotate(Long userId, String oldTokenHash, String newTokenHash, Date expiredDate);
+
+    /**
+     * 유저의 행이 아직 없는 경우에만 저장 (동시 로그인 시 중복 행 방지)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO refresh_token (user_id, token_hash, user_ip, expired_date, created_at, updated_at) " +
+            "SELECT u.user_id, :tokenHash, :userIp, :expiredDate, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM users u WHERE u.user_id = :userId " +
+            "AND NOT EXISTS (SELECT 1 FROM refresh_token r WHERE r.user_id = u.user_id)", nativeQuery = true)
+    int insertIfAbsent(Long userId, String tokenHash, String userIp, Date expiredDate);
+
+    @Query(value = "select r.id from RefreshToken r where r.expiredDate < :now or r.expiredDate is null")
+    List<Long> findExpiredIds(Date now, Pageable pageable);
+
+    @Modifying
+    @Query(value = "delete from RefreshToken r where r.id in :ids")
+    int deleteAllByIdIn(Collection<Long> ids);
 }
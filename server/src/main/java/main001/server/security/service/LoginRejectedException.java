@@ -0,0 +1,12 @@
+package main001.server.security.service;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 검증 대기열이 가득 차 로그인 요청을 처리하지 않고 거절한 경우
+ */
+public class LoginRejectedException extends AuthenticationServiceException {
+    public LoginRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,90 @@
+package main001.server.security.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 비밀번호 검증(bcrypt) 전용 스레드 풀
+ * 동시에 검증하는 수를 threads로, 대기 요청 수를 queue-capacity로 제한하고 초과한 요청은 바로 거절하여
+ * 로그인이 몰려도 Tomcat 요청 스레드와 CPU가 다른 API 처리에 남도록 한다.
+ */
+@Component
+public class PasswordHashingExecutor {
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${login.hashing.threads:4}") int threads,
+                                   @Value("${login.hashing.queue-capacity:100}") int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("login.hashing")
+                .description("로그인 비밀번호 검증 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("login.hashing.rejected")
+                .description("검증 대기열이 가득 차 거절된 로그인 수")
+                .register(meterRegistry);
+
+        Gauge.builder("login.hashing.queue", executor, e -> e.getQueue().size())
+                .description("비밀번호 검증 대기 중인 로그인 수")
+                .register(meterRegistry);
+        Gauge.builder("login.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 검증 중인 로그인 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 인증(사용자 조회 + 비밀번호 검증)을 전용 스레드에서 실행하고 결과를 기다림
+     */
+    public Authentication authenticate(Supplier<Authentication> authentication) {
+        Future<Authentication> future;
+        try {
+            future = executor.submit(() -> hashTimer.record(authentication));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new LoginRejectedException("Too many login requests");
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new AuthenticationServiceException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Interrupted while authenticating", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
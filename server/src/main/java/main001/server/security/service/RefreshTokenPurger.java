@@ -0,0 +1,51 @@
+package main001.server.security.service;
+
+import lombok.extern.slf4j.Slf4j;
+import main001.server.security.repository.RefreshTokenRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 만료된 Refresh Token 행을 주기적으로 일괄 삭제
+ * 한 번에 많은 행을 잠그지 않도록 BATCH_SIZE 단위로 나누어 삭제한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurger {
+    private static final int BATCH_SIZE = 1000;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RefreshTokenPurger(RefreshTokenRepository refreshTokenRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-purge.interval:3600000}")
+    public void purgeExpired() {
+        Date now = new Date();
+        PageRequest firstBatch = PageRequest.of(0, BATCH_SIZE);
+
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<Long> expiredIds = refreshTokenRepository.findExpiredIds(now, firstBatch);
+                return expiredIds.isEmpty() ? 0 : refreshTokenRepository.deleteAllByIdIn(expiredIds);
+            });
+            purged += deleted;
+        } while (deleted == BATCH_SIZE);
+
+        if (purged > 0) {
+            log.info("# Purged {} expired refresh tokens", purged);
+        }
+    }
+}
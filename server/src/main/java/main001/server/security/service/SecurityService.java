@@ -1,15 +1,14 @@
 package main001.server.security.service;
 
 import main001.server.domain.user.entity.User;
+import main001.server.security.dto.TokenDto;
 
 import javax.servlet.http.HttpServletRequest;
 
 public interface SecurityService {
     String delegateAccessToken(User user);
     String delegateRefreshToken(HttpServletRequest request, User user);
-    String reissueAccessToken(Long userId);
-    String reissueRefreshToken(Long userId);
+    TokenDto reissueTokens(HttpServletRequest request);
     void deleteRefreshToken(Long userId);
-    Long verifyToken(HttpServletRequest request);
 
 }
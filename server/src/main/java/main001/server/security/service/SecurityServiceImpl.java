@@ -1,15 +1,14 @@
 package main001.server.security.service;
 
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import main001.server.domain.user.entity.User;
-import main001.server.domain.user.repository.UserRepository;
 import main001.server.exception.BusinessLogicException;
 import main001.server.exception.ExceptionCode;
+import main001.server.security.dto.TokenDto;
 import main001.server.security.jwt.JwtTokenizer;
-import main001.server.security.jwt.RefreshToken;
+import main001.server.security.repository.RefreshTokenOwner;
 import main001.server.security.repository.RefreshTokenRepository;
+import main001.server.security.utils.TokenDigests;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -17,99 +16,85 @@ import org.springframework.util.StringUtils;
 import javax.servlet.http.HttpServletRequest;
 import java.util.Date;
 import java.util.*;
+import java.util.stream.Collectors;
 
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class SecurityServiceImpl implements SecurityService{
-    private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtTokenizer jwtTokenizer;
 
     public String delegateAccessToken(User user) {
-
-        Map<String, Object> claims = new HashMap<>();
-
-        claims.put("userId", user.getUserId());
-        claims.put("username", user.getEmail());
-        claims.put("roles",  user.getRoles());
-
-        String subject = user.getEmail();
-        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-
-        String accessToken = jwtTokenizer.generateAccessToken(claims, subject, expiration, base64EncodedSecretKey);
-
-        return accessToken;
+        return createAccessToken(user.getUserId(), user.getEmail(), user.getRoles());
     }
 
+    /**
+     * 유저당 한 행을 갱신하고, 행이 없는 경우(최초 로그인)에만 저장
+     */
     public String delegateRefreshToken(HttpServletRequest request, User user) {
         String subject = user.getEmail();
-        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
+        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMinutes());
 
-        String refreshToken = jwtTokenizer.generateRefreshToken(subject, expiration, base64EncodedSecretKey);
+        String refreshToken = jwtTokenizer.generateRefreshToken(subject, expiration);
+        String tokenHash = TokenDigests.digest(refreshToken);
+        String userIp = getClientIp(request);
 
-        if(refreshTokenRepository.findByUserId(user.getUserId()) != null) {
-            refreshTokenRepository.deleteByUserId(user.getUserId());
+        if (refreshTokenRepository.updateByUserId(user.getUserId(), tokenHash, userIp, expiration) == 0
+                && refreshTokenRepository.insertIfAbsent(user.getUserId(), tokenHash, userIp, expiration) == 0) {
+            // 동시 로그인으로 다른 요청이 먼저 저장한 경우
+            refreshTokenRepository.updateByUserId(user.getUserId(), tokenHash, userIp, expiration);
         }
 
-        RefreshToken token = new RefreshToken();
-        token.setUser(user);
-        token.setRefreshToken(refreshToken);
-        token.setUserIp(getClientIp(request));
-        token.setExpiredDate(expiration);
-        refreshTokenRepository.save(token);
-
         return refreshToken;
     }
 
-    public String reissueAccessToken(Long userId) {
-        Optional<User> optionalUser = userRepository.findById(userId);
-
-        User findUser = optionalUser.orElseThrow(() ->
-                new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
-
-        Map<String, Object> claims = new HashMap<>();
+    /**
+     * Refresh Token 검증(조회 1회) 후 Access Token 발급 및 Refresh Token 교체(갱신 1회)
+     */
+    public TokenDto reissueTokens(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
 
-        claims.put("userId", findUser.getUserId());
-        claims.put("username", findUser.getEmail());
-        claims.put("roles",  findUser.getRoles());
+        if( authorization == null) {
+            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_AVAILABLE);
+        }
 
-        String subject = findUser.getEmail();
-        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
+        String refreshToken = authorization.replace("Bearer ", "");
+        String tokenHash = TokenDigests.digest(refreshToken);
 
-        String accessToken = jwtTokenizer.generateAccessToken(claims, subject, expiration, base64EncodedSecretKey);
+        List<RefreshTokenOwner> owner = refreshTokenRepository.findOwnerByTokenHash(tokenHash);
+        if (owner.isEmpty()) {
+            throw new BusinessLogicException(ExceptionCode.REFRESH_TOKEN_NOT_MATCH);
+        }
 
-        return accessToken;
-    }
+        RefreshTokenOwner findRefreshToken = owner.get(0);
 
-    public String reissueRefreshToken(Long userId) {
-        try {
-            refreshTokenRepository.findByUserId(userId);
-        } catch (ExpiredJwtException ex) {
+        Date tokenExpireDate = findRefreshToken.getExpiredDate();
+        if (tokenExpireDate.before(new Date())) {
             throw new BusinessLogicException(ExceptionCode.REFRESH_TOKEN_EXPIRED);
         }
-        RefreshToken findRefreshToken = refreshTokenRepository.findByUserId(userId);
-
-        Optional<User> optionalUser = userRepository.findById(userId);
-
-        User findUser = optionalUser.orElseThrow(() ->
-                new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
 
-        String subject = findUser.getEmail();
-        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
+        if (!getClientIp(request).equals(findRefreshToken.getUserIp())) {
+            throw new BusinessLogicException(ExceptionCode.USER_IP_NOT_MATCH);
+        }
 
-        String refreshToken = jwtTokenizer.generateRefreshToken(subject, expiration, base64EncodedSecretKey);
+        List<String> roles = owner.stream()
+                .map(RefreshTokenOwner::getRole)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        String accessToken = createAccessToken(findRefreshToken.getUserId(), findRefreshToken.getEmail(), roles);
 
-        findRefreshToken.setRefreshToken(refreshToken);
+        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMinutes());
+        String reissuedRefreshToken = jwtTokenizer.generateRefreshToken(findRefreshToken.getEmail(), expiration);
 
-        refreshTokenRepository.save(findRefreshToken);
+        // 같은 Refresh Token으로 동시에 재발급을 요청한 경우 먼저 교체한 요청만 성공
+        int rotated = refreshTokenRepository.rotate(findRefreshToken.getUserId(), tokenHash, TokenDigests.digest(reissuedRefreshToken), expiration);
+        if (rotated == 0) {
+            throw new BusinessLogicException(ExceptionCode.REFRESH_TOKEN_NOT_MATCH);
+        }
 
-        return refreshToken;
+        return new TokenDto(accessToken, reissuedRefreshToken);
     }
 
     public String getClientIp(HttpServletRequest request) {
@@ -147,33 +132,15 @@ public class SecurityServiceImpl implements SecurityService{
         refreshTokenRepository.deleteByUserId(userId);
     }
 
-    public Long verifyToken(HttpServletRequest request) {
-
-        String authorization = request.getHeader("Authorization");
-
-        if( authorization == null) {
-            throw new BusinessLogicException(ExceptionCode.TOKEN_NOT_AVAILABLE);
-        }
-
-        String refreshToken = authorization.replace("Bearer ", "");
-
-        RefreshToken findRefreshToken = refreshTokenRepository.findByRefreshToken(refreshToken);
-        if (findRefreshToken == null) {
-            throw new BusinessLogicException(ExceptionCode.REFRESH_TOKEN_NOT_MATCH);
-        }
+    private String createAccessToken(Long userId, String email, List<String> roles) {
+        Map<String, Object> claims = new HashMap<>();
 
-        String clientIp = getClientIp(request);
-        String userIp = findRefreshToken.getUserIp();
+        claims.put("userId", userId);
+        claims.put("username", email);
+        claims.put("roles",  roles);
 
-        Date tokenExpireDate = findRefreshToken.getExpiredDate();
-        if (tokenExpireDate.before(new Date())) {
-            throw new BusinessLogicException(ExceptionCode.REFRESH_TOKEN_EXPIRED);
-        }
-
-        if (!clientIp.equals(userIp)) {
-            throw new BusinessLogicException(ExceptionCode.USER_IP_NOT_MATCH);
-        }
+        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
 
-        return findRefreshToken.getUser().getUserId();
+        return jwtTokenizer.generateAccessToken(claims, email, expiration);
     }
 }
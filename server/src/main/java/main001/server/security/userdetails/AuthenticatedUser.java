@@ -0,0 +1,27 @@
+package main001.server.security.userdetails;
+
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.util.List;
+
+/**
+ * JwtVerificationFilter가 토큰에서 한 번 추출해 SecurityContext에 저장하는 인증 사용자 정보
+ */
+@Getter
+public class AuthenticatedUser implements AuthenticatedPrincipal {
+    private final Long userId;
+    private final String email;
+    private final List<String> roles;
+
+    public AuthenticatedUser(Long userId, String email, List<String> roles) {
+        this.userId = userId;
+        this.email = email;
+        this.roles = roles;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,192 @@
+package main001.server.domain.likes.service;
+
+import main001.server.domain.portfolio.entity.Portfolio;
+import main001.server.domain.portfolio.repository.PortfolioRepository;
+import main001.server.domain.user.entity.User;
+import main001.server.domain.user.repository.UserRepository;
+import main001.server.exception.BusinessLogicException;
+import main001.server.security.userdetails.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드가 동시에 좋아요/취소해도 LikesWriteBuffer의 batch 반영 후 likes_count와 좋아요 행이 정확한지 확인
+ * (중복 INSERT는 (user_id, portfolio_id) unique 제약과 NOT EXISTS로 막힌다.)
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = {
+        "jwt.secret-key=likes-concurrency-test-secret-key-0123456789",
+        "likes.write-behind.flush-interval=100",
+        "GITHUB_ID=test", "GITHUB_SECRET=test",
+        "GOOGLE_ID=test", "GOOGLE_SECRET=test",
+        "S3_ACCESS_KEY=test", "S3_SECRET_KEY=test", "S3_BUCKET_NAME=test"
+})
+class LikesWriteBufferConcurrencyTest {
+    private static final int USER_COUNT = 20;
+    private static final int REPEAT = 10;
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private LikesService likesService;
+
+    @Autowired
+    private LikesWriteBuffer likesWriteBuffer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> userIds;
+    private Long portfolioId;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(saveUser());
+        }
+        userIds = new ArrayList<>();
+        users.forEach(user -> userIds.add(user.getUserId()));
+
+        Portfolio portfolio = new Portfolio();
+        portfolio.setTitle("concurrency");
+        portfolio.setDescription("concurrency");
+        portfolio.setUser(users.get(0));
+        portfolioId = portfolioRepository.save(portfolio).getPortfolioId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void likeFromManyUsersAtOnce() throws Exception {
+        runConcurrently(userIds, userId -> likesService.like(portfolioId));
+        likesWriteBuffer.flush();
+
+        assertThat(likesCount()).isEqualTo(USER_COUNT);
+        assertThat(likesRows()).isEqualTo(USER_COUNT);
+    }
+
+    @Test
+    void duplicateLikeIsAcceptedOnlyOnce() throws Exception {
+        List<Long> requests = new ArrayList<>();
+        for (int i = 0; i < REPEAT; i++) {
+            requests.addAll(userIds);
+        }
+        AtomicInteger succeeded = new AtomicInteger();
+
+        runConcurrently(requests, userId -> {
+            try {
+                likesService.like(portfolioId);
+                succeeded.incrementAndGet();
+            } catch (BusinessLogicException e) {
+                // 이미 좋아요한 상태 : LIKES_EXIST
+            }
+        });
+        likesWriteBuffer.flush();
+
+        assertThat(succeeded.get()).isEqualTo(USER_COUNT);
+        assertThat(likesCount()).isEqualTo(USER_COUNT);
+        assertThat(likesRows()).isEqualTo(USER_COUNT);
+    }
+
+    @Test
+    void likeAndUnlikeRepeatedly() throws Exception {
+        // 짝수 번째 유저는 좋아요로, 홀수 번째 유저는 취소로 끝난다.
+        runConcurrently(userIds, userId -> {
+            boolean keepLiked = userIds.indexOf(userId) % 2 == 0;
+            for (int i = 0; i < REPEAT; i++) {
+                likesService.like(portfolioId);
+                if (i < REPEAT - 1 || !keepLiked) {
+                    likesService.unlike(portfolioId);
+                }
+                if (i == REPEAT / 2) {
+                    likesWriteBuffer.flush();
+                }
+            }
+        });
+        likesWriteBuffer.flush();
+
+        assertThat(likesCount()).isEqualTo(USER_COUNT / 2);
+        assertThat(likesRows()).isEqualTo(USER_COUNT / 2);
+    }
+
+    private User saveUser() {
+        int sequence = SEQUENCE.incrementAndGet();
+        User user = new User();
+        user.setEmail("likes" + sequence + "@test.com");
+        user.setName("user" + sequence);
+        user.setRoles(List.of("USER"));
+
+        return userRepository.save(user);
+    }
+
+    /**
+     * 요청마다 하나의 스레드에서 해당 유저로 인증된 상태로 실행
+     */
+    private void runConcurrently(List<Long> requestUserIds, UserTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (Long userId : requestUserIds) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        new AuthenticatedUser(userId, "user" + userId, List.of("USER")),
+                        null,
+                        AuthorityUtils.createAuthorityList("ROLE_USER")));
+                try {
+                    task.run(userId);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+                return null;
+            }));
+        }
+
+        ready.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int likesCount() {
+        return jdbcTemplate.queryForObject("SELECT likes_count FROM portfolio WHERE portfolio_id = ?", Integer.class, portfolioId);
+    }
+
+    private int likesRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM portfolio_likes WHERE portfolio_id = ?", Integer.class, portfolioId);
+    }
+
+    @FunctionalInterface
+    private interface UserTask {
+        void run(Long userId);
+    }
+}